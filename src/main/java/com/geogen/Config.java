@@ -1,4 +1,121 @@
 package com.geogen;
 
+import com.geogen.worldgen.GeoGenWorkers;
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+
+/**
+ * Server configuration for GeoGen performance tuning.
+ * Values are baked into static fields on load and on every reload, so changes apply without a restart.
+ * Nothing here changes the generated terrain; the plate layout is part of the world's generator settings.
+ */
+@Mod.EventBusSubscriber(modid = GeoGen.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class Config {
-}
+    public enum InstrumentationLevel {
+        OFF, // No timing collected
+        SUMMARY, // Periodic aggregate timings
+        VERBOSE // Per-chunk timings at debug level
+    }
+
+    private static final ForgeConfigSpec.Builder BUILDER = new ForgeConfigSpec.Builder();
+
+    // Caches
+    private static final ForgeConfigSpec.IntValue PLATE_CACHE_CAPACITY;
+    private static final ForgeConfigSpec.IntValue BOUNDARY_TABLE_CAPACITY;
+    private static final ForgeConfigSpec.IntValue COLUMN_CACHE_CAPACITY;
+    private static final ForgeConfigSpec.IntValue DEPOSIT_INDEX_CAPACITY;
+
+    // Threading and diagnostics
+    private static final ForgeConfigSpec.IntValue WORKER_THREADS;
+    private static final ForgeConfigSpec.IntValue WARMUP_RADIUS;
+    private static final ForgeConfigSpec.IntValue PREFETCH_LOOKAHEAD_TICKS;
+    private static final ForgeConfigSpec.IntValue PREFETCH_CHUNKS_PER_PLAYER;
+    private static final ForgeConfigSpec.EnumValue<InstrumentationLevel> INSTRUMENTATION;
+    private static final ForgeConfigSpec.IntValue CHUNK_ALLOCATION_BUDGET;
+
+    static {
+        BUILDER.push("caches");
+        PLATE_CACHE_CAPACITY = BUILDER
+                .comment("Maximum number of plates kept in memory per world")
+                .defineInRange("plateCacheCapacity", 4096, 64, 1 << 20);
+        BOUNDARY_TABLE_CAPACITY = BUILDER
+                .comment("Maximum number of plate pair interactions kept in memory per world")
+                .defineInRange("boundaryTableCapacity", 8192, 64, 1 << 20);
+        COLUMN_CACHE_CAPACITY = BUILDER
+                .comment("Maximum number of chunks of prefetched column data per world. 0 disables prefetching.")
+                .defineInRange("columnCacheCapacity", 1024, 0, 65536);
+        DEPOSIT_INDEX_CAPACITY = BUILDER
+                .comment("Maximum number of 256x256 block regions of ore deposits kept in memory per world")
+                .defineInRange("depositIndexCapacity", 4096, 16, 1 << 20);
+        BUILDER.pop();
+
+        BUILDER.push("performance");
+        WORKER_THREADS = BUILDER
+                .comment("Background worker threads for warm-up and precomputation. 0 uses half of the available cores.")
+                .defineInRange("workerThreads", 0, 0, 64);
+        WARMUP_RADIUS = BUILDER
+                .comment("Radius in blocks around spawn whose plate data is precomputed on server start. 0 disables warm-up.")
+                .defineInRange("warmupRadius", 4096, 0, 65536);
+        PREFETCH_LOOKAHEAD_TICKS = BUILDER
+                .comment("How far ahead in ticks player movement is extrapolated when prefetching terrain")
+                .defineInRange("prefetchLookaheadTicks", 100, 0, 1200);
+        PREFETCH_CHUNKS_PER_PLAYER = BUILDER
+                .comment("Maximum chunks prefetched per moving player every half second")
+                .defineInRange("prefetchChunksPerPlayer", 64, 0, 1024);
+        INSTRUMENTATION = BUILDER
+                .comment("Amount of generation timing to log")
+                .defineEnum("instrumentation", InstrumentationLevel.OFF);
+        CHUNK_ALLOCATION_BUDGET = BUILDER
+                .comment("Heap allocation budget per filled chunk in KB, checked while instrumentation is enabled. 0 disables the check.")
+                .defineInRange("chunkAllocationBudgetKb", 1024, 0, 1 << 20);
+        BUILDER.pop();
+    }
+
+    static final ForgeConfigSpec SPEC = BUILDER.build();
+
+    // Baked values - defaults apply until the server config has loaded
+    public static volatile int plateCacheCapacity = 4096;
+    public static volatile int boundaryTableCapacity = 8192;
+    public static volatile int columnCacheCapacity = 1024;
+    public static volatile int depositIndexCapacity = 4096;
+    public static volatile int workerThreads = 0;
+    public static volatile int warmupRadius = 4096;
+    public static volatile int prefetchLookaheadTicks = 100;
+    public static volatile int prefetchChunksPerPlayer = 64;
+    public static volatile InstrumentationLevel instrumentation = InstrumentationLevel.OFF;
+    public static volatile int chunkAllocationBudgetKb = 1024;
+
+    @SubscribeEvent
+    static void onLoad(final ModConfigEvent event) {
+        if (event.getConfig().getSpec() != SPEC) {
+            return;
+        }
+
+        plateCacheCapacity = PLATE_CACHE_CAPACITY.get();
+        boundaryTableCapacity = BOUNDARY_TABLE_CAPACITY.get();
+        columnCacheCapacity = COLUMN_CACHE_CAPACITY.get();
+        depositIndexCapacity = DEPOSIT_INDEX_CAPACITY.get();
+        warmupRadius = WARMUP_RADIUS.get();
+        prefetchLookaheadTicks = PREFETCH_LOOKAHEAD_TICKS.get();
+        prefetchChunksPerPlayer = PREFETCH_CHUNKS_PER_PLAYER.get();
+        instrumentation = INSTRUMENTATION.get();
+        chunkAllocationBudgetKb = CHUNK_ALLOCATION_BUDGET.get();
+
+        int newWorkerThreads = WORKER_THREADS.get();
+        if (newWorkerThreads != workerThreads) {
+            workerThreads = newWorkerThreads;
+            GeoGenWorkers.resize(getWorkerThreadCount());
+        }
+
+        GeoGen.LOGGER.info("GeoGen config {}: workers={} instrumentation={}",
+                event instanceof ModConfigEvent.Reloading ? "reloaded" : "loaded",
+                getWorkerThreadCount(), instrumentation);
+    }
+
+    public static int getWorkerThreadCount() {
+        int threads = workerThreads;
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
\ No newline at end of file
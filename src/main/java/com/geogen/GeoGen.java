@@ -1,12 +1,21 @@
 package com.geogen;
 
 import com.geogen.registration.ModRegistries;
+import com.geogen.worldgen.PlateWarmup;
 import com.geogen.worldgen.chunk.GeoGenChunkGenerator;
+import com.geogen.worldgen.chunk.TerrainPrefetcher;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,11 +32,37 @@ public class GeoGen {
         ModRegistries.CHUNK_GENERATORS.register(modEventBus);
         ModRegistries.DENSITY_FUNCTIONS.register(modEventBus);
 
+        // Performance tuning is per server and reloads live
+        ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, Config.SPEC);
+
         MinecraftForge.EVENT_BUS.register(this);
 
         LOGGER.info("GeoGen mod initialized - Geological terrain generation loading...");
     }
 
+    @SubscribeEvent
+    public void onServerStarted(ServerStartedEvent event) {
+        // Precompute plate data around spawn in the background
+        for (ServerLevel level : event.getServer().getAllLevels()) {
+            if (level.getChunkSource().getGenerator() instanceof GeoGenChunkGenerator generator) {
+                PlateWarmup.start(generator.getPlateSystem(), level.getSharedSpawnPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        TerrainPrefetcher.reset();
+    }
+
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        // Prefetch terrain ahead of moving players
+        if (event.phase == TickEvent.Phase.END) {
+            TerrainPrefetcher.onServerTick(event.getServer());
+        }
+    }
+
     public static ResourceLocation location(String path) {
         return new ResourceLocation(MODID, path);
     }
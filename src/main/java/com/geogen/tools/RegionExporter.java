@@ -0,0 +1,316 @@
+package com.geogen.tools;
+
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.TerrainSampler;
+import com.geogen.worldgen.hydrology.WaterTable;
+import com.geogen.worldgen.plates.BoundarySample;
+import com.geogen.worldgen.plates.BoundaryType;
+import com.geogen.worldgen.plates.CrustType;
+import com.geogen.worldgen.plates.PlateLayout;
+import com.geogen.worldgen.plates.PlateSystem;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Headless renderer for seed and parameter sweeps.
+ * Drives PlateSystem and TerrainSampler directly, without starting Minecraft, and writes
+ * one file per tile and layer so memory use stays flat regardless of the exported area.
+ *
+ * Usage: RegionExporter [--seeds 1,2,3] [--center x,z] [--size blocks] [--tile pixels] [--scale blocks-per-pixel]
+ *                       [--surface-level 64,48] [--grid-size 2048] [--plate-scale 0.0001]
+ *                       [--boundary-search-radius 512] [--format png|raw] [--threads n] [--out dir]
+ *
+ * Every combination of seed and surface level is exported. The plate layout options match the "plates"
+ * settings of the world preset and must be set to the values of the world being previewed. Tiles are written
+ * to out/grid_G_plate_scale_P_radius_R/seed_N_surface_S/layer, so sweeps never overwrite each other.
+ *
+ * Raw tiles are headerless big-endian float grids of tile x tile values in row-major (z, then x) order:
+ * solid top Y for height, 0/1 for crust (1 = continental) and boundary distance in blocks for boundary.
+ */
+public class RegionExporter {
+    private enum Layer { HEIGHT, CRUST, BOUNDARY }
+
+    private long[] seeds = {0L};
+    private int centerX = 0;
+    private int centerZ = 0;
+    private int size = 8192; // Blocks along each edge of the exported area
+    private int tile = 256; // Pixels along each edge of a tile
+    private int scale = 8; // Blocks per pixel
+    private double[] surfaceLevels = {64.0};
+    private int gridSize = PlateLayout.DEFAULT.getGridSize();
+    private double plateScale = PlateLayout.DEFAULT.getPlateScale();
+    private int boundarySearchRadius = PlateLayout.DEFAULT.getBoundarySearchRadius();
+    private boolean raw = false;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Path out = Paths.get("exports");
+
+    public static void main(String[] args) throws Exception {
+        RegionExporter exporter = new RegionExporter();
+        exporter.parse(args);
+        exporter.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--seeds":
+                    String[] seedParts = require(args[i], value).split(",");
+                    seeds = new long[seedParts.length];
+                    for (int s = 0; s < seedParts.length; s++) {
+                        seeds[s] = Long.parseLong(seedParts[s].trim());
+                    }
+                    break;
+                case "--center":
+                    String[] centerParts = require(args[i], value).split(",");
+                    centerX = Integer.parseInt(centerParts[0].trim());
+                    centerZ = Integer.parseInt(centerParts[1].trim());
+                    break;
+                case "--size":
+                    size = Integer.parseInt(require(args[i], value));
+                    break;
+                case "--tile":
+                    tile = Integer.parseInt(require(args[i], value));
+                    break;
+                case "--scale":
+                    scale = Integer.parseInt(require(args[i], value));
+                    break;
+                case "--surface-level":
+                    String[] surfaceParts = require(args[i], value).split(",");
+                    surfaceLevels = new double[surfaceParts.length];
+                    for (int s = 0; s < surfaceParts.length; s++) {
+                        surfaceLevels[s] = Double.parseDouble(surfaceParts[s].trim());
+                    }
+                    break;
+                case "--grid-size":
+                    gridSize = Integer.parseInt(require(args[i], value));
+                    break;
+                case "--plate-scale":
+                    plateScale = Double.parseDouble(require(args[i], value));
+                    break;
+                case "--boundary-search-radius":
+                    boundarySearchRadius = Integer.parseInt(require(args[i], value));
+                    break;
+                case "--format":
+                    raw = "raw".equals(require(args[i], value));
+                    break;
+                case "--threads":
+                    threads = Math.max(1, Integer.parseInt(require(args[i], value)));
+                    break;
+                case "--out":
+                    out = Paths.get(require(args[i], value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+
+        if (size <= 0 || tile <= 0 || scale <= 0) {
+            throw new IllegalArgumentException("size, tile and scale must be positive");
+        }
+    }
+
+    private static String require(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return value;
+    }
+
+    private void run() throws Exception {
+        int tilesPerEdge = Math.max(1, (size / scale + tile - 1) / tile);
+        int totalTiles = seeds.length * surfaceLevels.length * tilesPerEdge * tilesPerEdge;
+        int originX = centerX - size / 2;
+        int originZ = centerZ - size / 2;
+
+        PlateLayout layout = new PlateLayout(gridSize, plateScale, boundarySearchRadius);
+        Path layoutDir = out.resolve("grid_" + gridSize + "_plate_scale_" + format(plateScale)
+                + "_radius_" + boundarySearchRadius);
+
+        System.out.printf("Exporting %d seed(s) x %d surface level(s), %dx%d tiles of %d px at %d blocks/px"
+                        + " on %d threads to %s%n",
+                seeds.length, surfaceLevels.length, tilesPerEdge, tilesPerEdge, tile, scale, threads,
+                layoutDir.toAbsolutePath());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        // Bound tiles in flight so finished tiles are written out before new ones are started
+        int permits = threads * 2;
+        Semaphore inFlight = new Semaphore(permits);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long start = System.nanoTime();
+
+        try {
+            submit:
+            for (long seed : seeds) {
+                // One plate system per seed, shared by its surface levels and tiles so plate caches are reused
+                PlateSystem plateSystem = new PlateSystem(seed, layout);
+                for (double surfaceLevel : surfaceLevels) {
+                    // Height scale 1.0 as in the world; it only scales density, never the solid top
+                    TerrainSampler sampler = new TerrainSampler(surfaceLevel, 1.0, plateSystem);
+                    Path runDir = layoutDir.resolve("seed_" + seed + "_surface_" + format(surfaceLevel));
+                    for (Layer layer : Layer.values()) {
+                        Files.createDirectories(runDir.resolve(layer.name().toLowerCase()));
+                    }
+
+                    for (int tileZ = 0; tileZ < tilesPerEdge; tileZ++) {
+                        for (int tileX = 0; tileX < tilesPerEdge; tileX++) {
+                            int blockX = originX + tileX * tile * scale;
+                            int blockZ = originZ + tileZ * tile * scale;
+                            String name = "tile_" + tileX + "_" + tileZ;
+
+                            inFlight.acquire();
+                            if (failure.get() != null) {
+                                // Stop submitting once any tile has failed
+                                inFlight.release();
+                                break submit;
+                            }
+                            executor.execute(() -> {
+                                try {
+                                    renderTile(sampler, blockX, blockZ, runDir, name);
+                                    int done = completed.incrementAndGet();
+                                    if (done % 16 == 0 || done == totalTiles) {
+                                        System.out.printf("%d/%d tiles%n", done, totalTiles);
+                                    }
+                                } catch (Throwable t) {
+                                    failure.compareAndSet(null,
+                                            new IOException("Failed to render " + runDir.resolve(name), t));
+                                } finally {
+                                    inFlight.release();
+                                }
+                            });
+                        }
+                    }
+                }
+            }
+
+            // Every permit is back once the last submitted tile has finished
+            inFlight.acquire(permits);
+        } finally {
+            executor.shutdown();
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IOException("Export stopped after " + completed.get() + " of " + totalTiles + " tiles", error);
+        }
+
+        System.out.printf("Exported %d tiles in %.1f s%n", totalTiles, (System.nanoTime() - start) / 1e9);
+    }
+
+    private void renderTile(TerrainSampler sampler, int blockX, int blockZ, Path runDir, String name)
+            throws IOException {
+        float[] heights = new float[tile * tile];
+        float[] crust = new float[tile * tile];
+        float[] boundaryDistance = new float[tile * tile];
+        byte[] boundaryType = new byte[tile * tile];
+        float[] boundaryStrength = new float[tile * tile];
+
+        for (int pz = 0; pz < tile; pz++) {
+            for (int px = 0; px < tile; px++) {
+                int i = pz * tile + px;
+                TerrainProperties column = sampler.sampleColumn(blockX + px * scale, blockZ + pz * scale);
+
+                heights[i] = sampler.getSolidTop(column);
+                crust[i] = column.getCrustType() == CrustType.CONTINENTAL ? 1.0f : 0.0f;
+                boundaryDistance[i] = (float) column.getBoundaryDistance();
+                if (column.getBoundary().hasBoundary()) {
+                    boundaryType[i] = (byte) (column.getBoundary().getInteraction().getBoundaryType().ordinal() + 1);
+                    boundaryStrength[i] = (float) column.getBoundary().getInteraction().getStrength();
+                }
+            }
+        }
+
+        if (raw) {
+            writeRaw(runDir.resolve("height").resolve(name + ".f32"), heights);
+            writeRaw(runDir.resolve("crust").resolve(name + ".f32"), crust);
+            writeRaw(runDir.resolve("boundary").resolve(name + ".f32"), boundaryDistance);
+            return;
+        }
+
+        BufferedImage heightImage = new BufferedImage(tile, tile, BufferedImage.TYPE_INT_RGB);
+        BufferedImage crustImage = new BufferedImage(tile, tile, BufferedImage.TYPE_INT_RGB);
+        BufferedImage boundaryImage = new BufferedImage(tile, tile, BufferedImage.TYPE_INT_RGB);
+        for (int pz = 0; pz < tile; pz++) {
+            for (int px = 0; px < tile; px++) {
+                int i = pz * tile + px;
+                heightImage.setRGB(px, pz, heightColor(heights[i]));
+                crustImage.setRGB(px, pz, crust[i] > 0 ? 0xC8A165 : 0x2E5A88);
+                boundaryImage.setRGB(px, pz, boundaryColor(boundaryType[i], boundaryStrength[i], boundaryDistance[i]));
+            }
+        }
+
+        ImageIO.write(heightImage, "png", runDir.resolve("height").resolve(name + ".png").toFile());
+        ImageIO.write(crustImage, "png", runDir.resolve("crust").resolve(name + ".png").toFile());
+        ImageIO.write(boundaryImage, "png", runDir.resolve("boundary").resolve(name + ".png").toFile());
+    }
+
+    /**
+     * Shortest plain form of a parameter for directory names, e.g. 64 rather than 64.0
+     */
+    private static String format(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    private static void writeRaw(Path path, float[] values) throws IOException {
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(file))) {
+            for (float value : values) {
+                data.writeFloat(value);
+            }
+        }
+    }
+
+    private static int heightColor(float height) {
+        if (height < WaterTable.SEA_LEVEL) {
+            // Deeper water is darker
+            double depth = Math.min(1.0, (WaterTable.SEA_LEVEL - height) / 96.0);
+            return rgb(20, (int) (90 - depth * 60), (int) (200 - depth * 120));
+        }
+
+        // Green lowlands through brown highlands to white peaks
+        double t = Math.min(1.0, (height - WaterTable.SEA_LEVEL) / 128.0);
+        if (t < 0.5) {
+            double u = t / 0.5;
+            return rgb((int) (60 + u * 80), (int) (140 - u * 30), (int) (60 - u * 10));
+        }
+        double u = (t - 0.5) / 0.5;
+        return rgb((int) (140 + u * 110), (int) (110 + u * 140), (int) (50 + u * 200));
+    }
+
+    private static int boundaryColor(byte type, float strength, float distance) {
+        if (type == 0) {
+            return 0x000000;
+        }
+
+        double intensity = Math.max(0.0, 1.0 - distance / BoundarySample.INFLUENCE_DISTANCE) * (0.25 + 0.75 * strength);
+        BoundaryType boundaryType = BoundaryType.values()[type - 1];
+        switch (boundaryType) {
+            case CONVERGENT:
+                return rgb((int) (255 * intensity), (int) (40 * intensity), (int) (40 * intensity));
+            case DIVERGENT:
+                return rgb((int) (40 * intensity), (int) (120 * intensity), (int) (255 * intensity));
+            default:
+                return rgb((int) (230 * intensity), (int) (210 * intensity), (int) (40 * intensity));
+        }
+    }
+
+    private static int rgb(int r, int g, int b) {
+        return (r << 16) | (g << 8) | b;
+    }
+}
\ No newline at end of file
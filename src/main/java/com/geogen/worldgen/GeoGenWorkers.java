@@ -0,0 +1,53 @@
+package com.geogen.worldgen;
+
+import com.geogen.Config;
+import com.geogen.GeoGen;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared background pool for work that runs ahead of chunk generation (warm-up, precomputation).
+ * The pool is rebuilt when the configured worker count changes.
+ */
+public class GeoGenWorkers {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static volatile ExecutorService executor;
+
+    public static ExecutorService get() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (GeoGenWorkers.class) {
+                current = executor;
+                if (current == null) {
+                    current = create(Config.getWorkerThreadCount());
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public static synchronized void resize(int threads) {
+        ExecutorService previous = executor;
+        executor = create(threads);
+
+        // Let queued work finish on the old pool rather than dropping it
+        if (previous != null) {
+            previous.shutdown();
+        }
+        GeoGen.LOGGER.debug("GeoGen worker pool resized to {} threads", threads);
+    }
+
+    private static ExecutorService create(int threads) {
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "GeoGen-Worker-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1); // Stay behind the server thread
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+}
\ No newline at end of file
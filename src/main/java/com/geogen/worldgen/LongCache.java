@@ -0,0 +1,103 @@
+package com.geogen.worldgen;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded cache keyed by primitive longs, shared by all worldgen threads without a lock.
+ * Each key maps to one slot of a power-of-two table and a miss overwrites whatever that slot held,
+ * so eviction is approximate rather than least-recently-used. Hits are a single volatile read:
+ * they neither lock, reorder, box the key nor allocate.
+ */
+public class LongCache<V> {
+    private final IntSupplier capacity;
+    private volatile AtomicReferenceArray<Entry<V>> slots;
+
+    public LongCache(IntSupplier capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(tableSize(capacity.getAsInt()));
+    }
+
+    /**
+     * Get the value for a key, creating it with the factory on a miss.
+     * Threads that miss on the same key at once each create a value and the last one stored stays,
+     * so factories must be deterministic.
+     */
+    public V get(long key, LongFunction<V> factory) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        V created = factory.apply(key);
+        put(key, created);
+        return created;
+    }
+
+    /**
+     * The cached value for a key, or null without creating one
+     */
+    public V getIfPresent(long key) {
+        AtomicReferenceArray<Entry<V>> table = slots;
+        Entry<V> entry = table.get(slot(key, table.length()));
+        return entry != null && entry.key == key ? entry.value : null;
+    }
+
+    public void put(long key, V value) {
+        AtomicReferenceArray<Entry<V>> table = resizedTable();
+        table.set(slot(key, table.length()), new Entry<>(key, value));
+    }
+
+    /**
+     * Number of occupied slots - walks the table, so only for logging
+     */
+    public int size() {
+        AtomicReferenceArray<Entry<V>> table = slots;
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The current table, replaced by an empty one when the configured capacity changed size class
+     */
+    private AtomicReferenceArray<Entry<V>> resizedTable() {
+        AtomicReferenceArray<Entry<V>> table = slots;
+        int wanted = tableSize(capacity.getAsInt());
+        if (table.length() == wanted) {
+            return table;
+        }
+
+        synchronized (this) {
+            if (slots.length() != wanted) {
+                slots = new AtomicReferenceArray<>(wanted);
+            }
+            return slots;
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        // Rounded down so the configured capacity stays a maximum
+        return Integer.highestOneBit(Math.max(1, capacity));
+    }
+
+    private static int slot(long key, int tableSize) {
+        // Fibonacci hashing spreads packed grid coordinates, whose low bits are mostly one axis
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (tableSize - 1);
+    }
+
+    private static final class Entry<V> {
+        private final long key;
+        private final V value;
+
+        private Entry(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
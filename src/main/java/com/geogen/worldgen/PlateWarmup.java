@@ -0,0 +1,51 @@
+package com.geogen.worldgen;
+
+import com.geogen.Config;
+import com.geogen.GeoGen;
+import com.geogen.worldgen.plates.BoundarySample;
+import com.geogen.worldgen.plates.PlateSystem;
+import net.minecraft.core.BlockPos;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Precomputes plates and boundary interactions around a point so the first chunks
+ * generated there do not pay for plate classification
+ */
+public class PlateWarmup {
+
+    public static CompletableFuture<Void> start(PlateSystem plateSystem, BlockPos center) {
+        int radius = Config.warmupRadius;
+        if (radius <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // A few samples per plate cell are enough to discover every neighbouring pair
+        int step = plateSystem.getLayout().getGridSize() / 4;
+        ExecutorService executor = GeoGenWorkers.get();
+        long start = System.nanoTime();
+
+        // One task per row keeps the queue short while spreading rows across workers
+        int rows = radius * 2 / step + 1;
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[rows];
+        for (int row = 0; row < rows; row++) {
+            int z = center.getZ() - radius + row * step;
+            tasks[row] = CompletableFuture.runAsync(() -> {
+                BoundarySample sample = new BoundarySample();
+                for (int x = center.getX() - radius; x <= center.getX() + radius; x += step) {
+                    plateSystem.getNearestBoundary(x, z, sample);
+                }
+            }, executor);
+        }
+
+        return CompletableFuture.allOf(tasks).whenComplete((result, error) -> {
+            if (error != null) {
+                GeoGen.LOGGER.warn("GeoGen plate warm-up failed", error);
+            } else {
+                GeoGen.LOGGER.info("GeoGen warmed {} plate interactions within {} blocks in {} ms",
+                        plateSystem.getBoundaryTable().size(), radius, (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+}
\ No newline at end of file
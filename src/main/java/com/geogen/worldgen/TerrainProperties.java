@@ -1,5 +1,6 @@
 package com.geogen.worldgen;
 
+import com.geogen.worldgen.plates.BoundarySample;
 import com.geogen.worldgen.plates.PlateData;
 import com.geogen.worldgen.plates.CrustType;
 
@@ -11,18 +12,25 @@ public class TerrainProperties {
     private final CrustType crustType;
     private final double terrainHeight;
     private final double boundaryDistance;
+    private final BoundarySample boundary;
 
     public TerrainProperties(PlateData plateData, CrustType crustType, double terrainHeight, double boundaryDistance) {
+        this(plateData, crustType, terrainHeight, new BoundarySample(boundaryDistance, null, null, 0.0));
+    }
+
+    public TerrainProperties(PlateData plateData, CrustType crustType, double terrainHeight, BoundarySample boundary) {
         this.plateData = plateData;
         this.crustType = crustType;
         this.terrainHeight = terrainHeight;
-        this.boundaryDistance = boundaryDistance;
+        this.boundaryDistance = boundary.getDistance();
+        this.boundary = boundary;
     }
 
     public PlateData getPlateData() { return plateData; }
     public CrustType getCrustType() { return crustType; }
     public double getTerrainHeight() { return terrainHeight; }
     public double getBoundaryDistance() { return boundaryDistance; }
+    public BoundarySample getBoundary() { return boundary; }
 
     public boolean isNearBoundary(double threshold) {
         return boundaryDistance < threshold;
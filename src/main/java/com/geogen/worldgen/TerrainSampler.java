@@ -0,0 +1,93 @@
+package com.geogen.worldgen;
+
+import com.geogen.worldgen.hydrology.WaterTable;
+import com.geogen.worldgen.plates.BoundarySample;
+import com.geogen.worldgen.plates.CrustType;
+import com.geogen.worldgen.plates.PlateData;
+import com.geogen.worldgen.plates.PlateSystem;
+
+/**
+ * Closed-form terrain height of a column from plate properties and boundary relief.
+ * Kept free of DensityFunction so tools can sample terrain without bootstrapping Minecraft's registries.
+ */
+public class TerrainSampler {
+    // Per-thread sample for density(), which only reads values out of it
+    private static final ThreadLocal<BoundarySample> SCRATCH_SAMPLE = ThreadLocal.withInitial(BoundarySample::new);
+
+    private final double surfaceLevel;
+    private final double heightScale;
+    private final PlateSystem plateSystem;
+
+    public TerrainSampler(double surfaceLevel, double heightScale, PlateSystem plateSystem) {
+        this.surfaceLevel = surfaceLevel;
+        this.heightScale = heightScale;
+        this.plateSystem = plateSystem;
+    }
+
+    /**
+     * Density at a single block: positive = solid, negative = air
+     */
+    public double density(int x, int y, int z) {
+        PlateData plate = plateSystem.getPlateAt(x, z);
+        BoundarySample boundary = plateSystem.getNearestBoundary(x, z, SCRATCH_SAMPLE.get());
+        double baseHeight = calculateTerrainHeight(plate, boundary, x, z);
+
+        double density = (baseHeight - y) * 0.1;
+
+        // Apply crust type modifications
+        density += getCrustDensityOffset(plate.getCrustType());
+
+        return density * heightScale;
+    }
+
+    /**
+     * Sample the 2D terrain properties of a column once, for callers that fill whole columns
+     */
+    public TerrainProperties sampleColumn(int x, int z) {
+        PlateData plate = plateSystem.getPlateAt(x, z);
+        BoundarySample boundary = plateSystem.getNearestBoundary(x, z);
+        double height = calculateTerrainHeight(plate, boundary, x, z);
+
+        return new TerrainProperties(plate, plate.getCrustType(), height, boundary);
+    }
+
+    /**
+     * Highest Y with positive density in a sampled column - the closed form of density().
+     * Returns Integer.MIN_VALUE when nothing is solid (non-positive height scale).
+     */
+    public int getSolidTop(TerrainProperties column) {
+        if (heightScale <= 0) {
+            return Integer.MIN_VALUE;
+        }
+
+        // (height - y) * 0.1 + offset > 0  <=>  y < height + offset * 10
+        double limit = column.getTerrainHeight() + getCrustDensityOffset(column.getCrustType()) * 10.0;
+        return (int) Math.ceil(limit) - 1;
+    }
+
+    private static double getCrustDensityOffset(CrustType crustType) {
+        if (crustType == CrustType.OCEANIC) {
+            return 0.05; // Oceanic crust is denser
+        }
+        return -0.02; // Continental crust is less dense, more elevated
+    }
+
+    private double calculateTerrainHeight(PlateData plate, BoundarySample boundary, double x, double z) {
+        // Base height from plate elevation
+        double height = surfaceLevel + (plate.getBaseElevation() * 32);
+
+        // Add crust type elevation modifier
+        height += plate.getCrustType().getElevationModifier() * 16;
+
+        // Add distance-from-center variation (older crust is more elevated toward center)
+        double distanceToCenter = plate.getDistanceToCenter(x, z);
+        double centerEffect = Math.exp(-distanceToCenter / 2048.0) * plate.getAge() * 8;
+        height += centerEffect;
+
+        // Add boundary effects - trenches, ridges and mountain belts from the precomputed pair table
+        height += boundary.getRelief();
+
+        // Hold up the ground around perched lakes so their water cannot spill off the plate
+        return Math.max(height, WaterTable.getRimFloor(plate, boundary.getDistance()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.geogen.worldgen.chunk;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads per-thread allocated bytes through the HotSpot ThreadMXBean extension.
+ * Falls back to reporting nothing on JVMs without allocation accounting.
+ */
+public class AllocationTracker {
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = findThreadBean();
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Total bytes allocated by the calling thread so far, or -1 when unsupported
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN != null ? THREAD_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.geogen.worldgen.chunk;
+
+import com.geogen.Config;
+import com.geogen.GeoGen;
+import com.geogen.worldgen.GeoGenWorkers;
+import com.geogen.worldgen.TerrainSampler;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Column data computed ahead of the noise stage on the GeoGen worker pool.
+ * Entries are consumed by the fill that needs them; the oldest unclaimed entries
+ * are dropped once the configured capacity is reached.
+ */
+public class ChunkColumnCache {
+    private final TerrainSampler sampler;
+
+    // Guarded by this; insertion order gives oldest-first eviction
+    private final Map<Long, Prefetch> pending = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Prefetch> eldest) {
+            if (size() > Config.columnCacheCapacity) {
+                eldest.getValue().claim(); // Keeps a queued task from running for nobody
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public ChunkColumnCache(TerrainSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * Start computing a chunk's column data in the background if it is not already pending
+     */
+    public void prefetch(int chunkX, int chunkZ) {
+        if (Config.columnCacheCapacity <= 0) {
+            return;
+        }
+
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        Prefetch prefetch = new Prefetch();
+        synchronized (this) {
+            if (pending.putIfAbsent(key, prefetch) != null) {
+                return;
+            }
+        }
+
+        Runnable task = () -> {
+            // Skip work that was taken or evicted while queued
+            if (!prefetch.claim()) {
+                return;
+            }
+            try {
+                prefetch.result.complete(ChunkColumns.sample(sampler, chunkX, chunkZ));
+            } catch (Throwable t) {
+                GeoGen.LOGGER.warn("GeoGen failed to prefetch chunk [{}, {}]", chunkX, chunkZ, t);
+                prefetch.result.completeExceptionally(t);
+            }
+        };
+        try {
+            GeoGenWorkers.get().execute(task);
+        } catch (RejectedExecutionException e) {
+            // The pool was shut down by a resize after we fetched it - sample on this thread instead
+            task.run();
+        }
+    }
+
+    /**
+     * Claim a chunk's column data: waits for a prefetch a worker has already started,
+     * and computes it here when there was none or it is still queued
+     */
+    public ChunkColumns take(ChunkPos pos) {
+        Prefetch prefetch;
+        synchronized (this) {
+            prefetch = pending.remove(pos.toLong());
+        }
+
+        // Claiming a queued prefetch makes its task skip, so the chunk is never sampled twice
+        if (prefetch != null && !prefetch.claim()) {
+            try {
+                return prefetch.result.join();
+            } catch (CompletionException e) {
+                // Already logged by the worker - fall through and try again here
+            }
+        }
+
+        return ChunkColumns.sample(sampler, pos.x, pos.z);
+    }
+
+    /**
+     * A queued or running prefetch. Whichever of the worker, take and eviction claims it first decides
+     * whether it runs, so a started task is never redone and a queued one never runs for nobody.
+     */
+    private static class Prefetch {
+        private final CompletableFuture<ChunkColumns> result = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        /**
+         * Marks the prefetch as started, returning false if something else already did
+         */
+        boolean claim() {
+            return started.compareAndSet(false, true);
+        }
+    }
+}
\ No newline at end of file
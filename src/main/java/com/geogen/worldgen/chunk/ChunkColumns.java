@@ -0,0 +1,37 @@
+package com.geogen.worldgen.chunk;
+
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.TerrainSampler;
+
+/**
+ * 2D terrain data for every column of one chunk: plate, boundary interaction and solid top
+ */
+public class ChunkColumns {
+    private final TerrainProperties[] columns = new TerrainProperties[256];
+    private final int[] solidTops = new int[256];
+
+    public static ChunkColumns sample(TerrainSampler sampler, int chunkX, int chunkZ) {
+        ChunkColumns result = new ChunkColumns();
+        for (int localZ = 0; localZ < 16; localZ++) {
+            for (int localX = 0; localX < 16; localX++) {
+                int index = index(localX, localZ);
+                TerrainProperties column = sampler.sampleColumn(chunkX * 16 + localX, chunkZ * 16 + localZ);
+                result.columns[index] = column;
+                result.solidTops[index] = sampler.getSolidTop(column);
+            }
+        }
+        return result;
+    }
+
+    private static int index(int localX, int localZ) {
+        return (localZ << 4) | localX;
+    }
+
+    public TerrainProperties get(int localX, int localZ) {
+        return columns[index(localX, localZ)];
+    }
+
+    public int getSolidTop(int localX, int localZ) {
+        return solidTops[index(localX, localZ)];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.geogen.worldgen.chunk;
+
+import com.geogen.GeoGen;
+import com.geogen.worldgen.plates.PlateLayout;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.FixedBiomeSource;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Fills real proto chunks and checks heap allocation per chunk. The budget covers per-chunk and
+ * per-column data such as palettes and column samples; a single small allocation per block would
+ * exceed it several times over.
+ * Runs in the game test server, which provides the bootstrapped registries proto chunks need:
+ * ./gradlew runGameTestServer
+ */
+@GameTestHolder(GeoGen.MODID)
+@PrefixGameTestTemplate(false)
+public class ChunkFillAllocationGameTest {
+    private static final int CHUNKS_PER_SIDE = 4;
+    private static final int WARMUP_ROUNDS = 8; // Lets the JIT compile the fill before measuring
+    private static final long BYTES_PER_CHUNK = 512 * 1024;
+
+    @GameTest(template = "empty")
+    public static void fillStaysWithinChunkBudget(GameTestHelper helper) {
+        if (AllocationTracker.currentThreadAllocatedBytes() < 0) {
+            GeoGen.LOGGER.warn("Skipping chunk fill allocation test: JVM does not report thread allocations");
+            helper.succeed();
+            return;
+        }
+
+        ServerLevel level = helper.getLevel();
+        Registry<Biome> biomes = level.registryAccess().registryOrThrow(Registries.BIOME);
+        GeoGenChunkGenerator generator = new GeoGenChunkGenerator(
+                new FixedBiomeSource(biomes.getHolderOrThrow(Biomes.PLAINS)), 42L, PlateLayout.DEFAULT);
+
+        // Same chunks every round, so plate, boundary and deposit caches are warm when measuring
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            fillAll(generator, createChunks(level, biomes));
+        }
+
+        ProtoChunk[] chunks = createChunks(level, biomes); // Created outside the measured region
+        long before = AllocationTracker.currentThreadAllocatedBytes();
+        fillAll(generator, chunks);
+        long allocated = AllocationTracker.currentThreadAllocatedBytes() - before;
+
+        long perChunk = allocated / chunks.length;
+        if (perChunk > BYTES_PER_CHUNK) {
+            helper.fail(String.format("Fill allocated %d KB per chunk (%d bytes per column), budget is %d KB",
+                    perChunk / 1024, perChunk / 256, BYTES_PER_CHUNK / 1024));
+            return;
+        }
+        helper.succeed();
+    }
+
+    private static ProtoChunk[] createChunks(ServerLevel level, Registry<Biome> biomes) {
+        ProtoChunk[] chunks = new ProtoChunk[CHUNKS_PER_SIDE * CHUNKS_PER_SIDE];
+        for (int i = 0; i < chunks.length; i++) {
+            ChunkPos pos = new ChunkPos(i % CHUNKS_PER_SIDE, i / CHUNKS_PER_SIDE);
+            chunks[i] = new ProtoChunk(pos, UpgradeData.EMPTY, level, biomes, null);
+        }
+        return chunks;
+    }
+
+    private static void fillAll(GeoGenChunkGenerator generator, ProtoChunk[] chunks) {
+        for (ProtoChunk chunk : chunks) {
+            generator.fillChunkWithTectonicTerrain(chunk);
+        }
+    }
+}
\ No newline at end of file
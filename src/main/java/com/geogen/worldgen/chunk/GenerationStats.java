@@ -0,0 +1,66 @@
+package com.geogen.worldgen.chunk;
+
+import com.geogen.Config;
+import com.geogen.GeoGen;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects chunk generation timings and allocations according to the configured instrumentation level
+ */
+public class GenerationStats {
+    private static final int SUMMARY_INTERVAL = 256; // Chunks between summary log lines
+
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalAllocatedBytes = new LongAdder();
+    private final LongAdder overBudgetChunks = new LongAdder();
+
+    public boolean isEnabled() {
+        return Config.instrumentation != Config.InstrumentationLevel.OFF;
+    }
+
+    /**
+     * Record one chunk fill. allocatedBytes is -1 when the JVM cannot report allocations.
+     */
+    public void record(ChunkPos pos, long nanos, long allocatedBytes) {
+        Config.InstrumentationLevel level = Config.instrumentation;
+        if (level == Config.InstrumentationLevel.OFF) {
+            return;
+        }
+
+        if (level == Config.InstrumentationLevel.VERBOSE) {
+            GeoGen.LOGGER.debug("GeoGen filled chunk {} in {} us, allocated {} KB",
+                    pos, nanos / 1000, allocatedBytes / 1024);
+        }
+
+        chunks.increment();
+        totalNanos.add(nanos);
+        if (allocatedBytes >= 0) {
+            totalAllocatedBytes.add(allocatedBytes);
+            checkBudget(pos, allocatedBytes);
+        }
+
+        // sum() is only approximate under contention, which is fine for a periodic summary
+        long count = chunks.sum();
+        if (count % SUMMARY_INTERVAL == 0) {
+            GeoGen.LOGGER.info("GeoGen generated {} chunks, average fill {} us, average allocation {} KB ({} over budget)",
+                    count, totalNanos.sum() / count / 1000, totalAllocatedBytes.sum() / count / 1024, overBudgetChunks.sum());
+        }
+    }
+
+    private void checkBudget(ChunkPos pos, long allocatedBytes) {
+        long budget = Config.chunkAllocationBudgetKb * 1024L;
+        if (budget <= 0 || allocatedBytes <= budget) {
+            return;
+        }
+
+        // Warn on the first regression and then periodically, not on every chunk
+        overBudgetChunks.increment();
+        if (overBudgetChunks.sum() % SUMMARY_INTERVAL == 1) {
+            GeoGen.LOGGER.warn("GeoGen chunk {} allocated {} KB during fill, over the {} KB budget ({} bytes per column)",
+                    pos, allocatedBytes / 1024, budget / 1024, allocatedBytes / 256);
+        }
+    }
+}
\ No newline at end of file
@@ -1,28 +1,39 @@
 // src/main/java/com/geogen/worldgen/chunk/GeoGenChunkGenerator.java
 package com.geogen.worldgen.chunk;
 
-import com.geogen.worldgen.density.TectonicDensityFunction;
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.TerrainSampler;
+import com.geogen.worldgen.hydrology.WaterTable;
+import com.geogen.worldgen.ore.DepositIndex;
+import com.geogen.worldgen.ore.OreDeposit;
+import com.geogen.worldgen.plates.PlateLayout;
 import com.geogen.worldgen.plates.PlateSystem;
+import com.geogen.worldgen.strata.RockType;
+import com.geogen.worldgen.strata.StrataColumn;
+import com.geogen.worldgen.strata.StrataEngine;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.server.level.WorldGenRegion;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.NoiseColumn;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.biome.BiomeManager;
 import net.minecraft.world.level.biome.BiomeSource;
-import net.minecraft.world.level.biome.Climate;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 import net.minecraft.world.level.levelgen.*;
 import net.minecraft.world.level.levelgen.blending.Blender;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -30,23 +41,44 @@ import java.util.concurrent.Executor;
 /**
  * Custom chunk generator that replaces vanilla terrain generation with geological simulation
  */
-public abstract class GeoGenChunkGenerator extends ChunkGenerator {
+public class GeoGenChunkGenerator extends ChunkGenerator {
+    private static final BlockState WATER = Blocks.WATER.defaultBlockState();
+
     public static final Codec<GeoGenChunkGenerator> CODEC = RecordCodecBuilder.create(instance ->
             instance.group(
                     BiomeSource.CODEC.fieldOf("biome_source").forGetter(generator -> generator.biomeSource),
-                    Codec.LONG.fieldOf("seed").forGetter(generator -> generator.seed)
+                    Codec.LONG.fieldOf("seed").forGetter(generator -> generator.seed),
+                    PlateLayout.CODEC.fieldOf("plates").orElse(PlateLayout.DEFAULT).forGetter(generator -> generator.layout)
             ).apply(instance, GeoGenChunkGenerator::new)
     );
 
     private final long seed;
+    private final PlateLayout layout;
     private final PlateSystem plateSystem;
-    private final TectonicDensityFunction densityFunction;
-
-    public GeoGenChunkGenerator(BiomeSource biomeSource, long seed) {
+    private final TerrainSampler sampler;
+    private final ChunkColumnCache columnCache;
+    private final StrataEngine strataEngine = new StrataEngine();
+    private final WaterTable waterTable;
+    private final DepositIndex depositIndex;
+    private final GenerationStats stats = new GenerationStats();
+
+    public GeoGenChunkGenerator(BiomeSource biomeSource, long seed, PlateLayout layout) {
         super(biomeSource);
         this.seed = seed;
-        this.plateSystem = new PlateSystem(seed);
-        this.densityFunction = new TectonicDensityFunction(seed, 64.0, 1.0);
+        this.layout = layout;
+        this.plateSystem = new PlateSystem(seed, layout);
+        this.sampler = new TerrainSampler(64.0, 1.0, plateSystem); // Share plate caches
+        this.columnCache = new ChunkColumnCache(sampler);
+        this.waterTable = new WaterTable(seed);
+        this.depositIndex = new DepositIndex(seed, sampler);
+    }
+
+    public PlateSystem getPlateSystem() {
+        return plateSystem;
+    }
+
+    public ChunkColumnCache getColumnCache() {
+        return columnCache;
     }
 
     @Override
@@ -55,63 +87,49 @@ public abstract class GeoGenChunkGenerator extends ChunkGenerator {
     }
 
     @Override
-    public void applyCarvers(WorldGenRegion level, long seed, RandomSource random, BiomeManager biomeManager,
+    public void applyCarvers(WorldGenRegion level, long seed, RandomState randomState, BiomeManager biomeManager,
                              StructureManager structureManager, ChunkAccess chunk, GenerationStep.Carving step) {
         // TODO: Implement geological carving (rivers, caves) based on rock hardness and permeability
         // For now, skip carving to focus on basic terrain generation
     }
 
     @Override
-    public void buildSurface(WorldGenRegion level, StructureManager structureManager, RandomSource random, ChunkAccess chunk) {
-        // Apply surface rules based on geological properties
-        ChunkPos chunkPos = chunk.getPos();
-        int chunkX = chunkPos.x;
-        int chunkZ = chunkPos.z;
+    public void buildSurface(WorldGenRegion level, StructureManager structureManager, RandomState randomState, ChunkAccess chunk) {
+        // Weather the exposed top of each strata column; everything below it is left as generated
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
         for (int localX = 0; localX < 16; localX++) {
             for (int localZ = 0; localZ < 16; localZ++) {
-                int worldX = chunkX * 16 + localX;
-                int worldZ = chunkZ * 16 + localZ;
-
-                // Get terrain properties
-                var plateData = plateSystem.getPlateAt(worldX, worldZ);
-
-                // Apply surface based on crust type
-                applySurfaceForColumn(chunk, localX, localZ, plateData);
+                applySurfaceForColumn(chunk, localX, localZ, pos);
             }
         }
     }
 
-    private void applySurfaceForColumn(ChunkAccess chunk, int x, int z, com.geogen.worldgen.plates.PlateData plateData) {
-        int topY = chunk.getHeight(Heightmap.Types.WORLD_SURFACE_WG, x, z);
-
-        // Surface rules based on crust type
-        BlockState surfaceBlock;
-        BlockState subsurfaceBlock;
-
-        switch (plateData.getCrustType()) {
-            case OCEANIC:
-                surfaceBlock = Blocks.GRAVEL.defaultBlockState(); // Oceanic sediments
-                subsurfaceBlock = Blocks.BASALT.defaultBlockState(); // Oceanic basalt
-                break;
-            case CONTINENTAL:
-                surfaceBlock = Blocks.GRASS_BLOCK.defaultBlockState(); // Continental surface
-                subsurfaceBlock = Blocks.STONE.defaultBlockState(); // Continental granite/metamorphic
-                break;
-            default:
-                surfaceBlock = Blocks.STONE.defaultBlockState();
-                subsurfaceBlock = Blocks.STONE.defaultBlockState();
+    private void applySurfaceForColumn(ChunkAccess chunk, int x, int z, BlockPos.MutableBlockPos pos) {
+        // Top solid block - the world surface heightmap would land on water
+        int topY = chunk.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, x, z);
+        if (topY < chunk.getMinBuildHeight()) {
+            return;
         }
+        boolean submerged = chunk.getHeight(Heightmap.Types.WORLD_SURFACE_WG, x, z) > topY;
 
-        // Apply surface layers
-        if (topY >= chunk.getMinBuildHeight()) {
-            chunk.setBlockState(new BlockPos(x, topY, z), surfaceBlock, false);
+        // Only loose sediment weathers; exposed bedrock and ore stay bare
+        pos.set(x, topY, z);
+        RockType exposed = RockType.fromBlockState(chunk.getBlockState(pos));
+        if (exposed == null || !exposed.isSediment()) {
+            return;
+        }
 
-            // Add a few layers of subsurface material
-            for (int i = 1; i <= 3 && (topY - i) >= chunk.getMinBuildHeight(); i++) {
-                chunk.setBlockState(new BlockPos(x, topY - i, z), subsurfaceBlock, false);
-            }
+        BlockState surfaceBlock;
+        if (!submerged) {
+            surfaceBlock = Blocks.GRASS_BLOCK.defaultBlockState();
+        } else if (exposed == RockType.MARINE_SEDIMENT) {
+            surfaceBlock = Blocks.GRAVEL.defaultBlockState(); // Sea floor ooze
+        } else {
+            surfaceBlock = Blocks.SAND.defaultBlockState(); // Lake and shelf beds
         }
+
+        chunk.setBlockState(pos, surfaceBlock, false);
     }
 
     @Override
@@ -125,65 +143,231 @@ public abstract class GeoGenChunkGenerator extends ChunkGenerator {
     }
 
     @Override
-    public CompletableFuture<ChunkAccess> fillFromNoise(Executor executor, Blender blender, RandomSource random,
+    public CompletableFuture<ChunkAccess> createBiomes(Executor executor, RandomState randomState, Blender blender,
+                                                       StructureManager structureManager, ChunkAccess chunk) {
+        // The noise stage follows biomes, so start computing this chunk's column data now
+        ChunkPos pos = chunk.getPos();
+        columnCache.prefetch(pos.x, pos.z);
+        return super.createBiomes(executor, randomState, blender, structureManager, chunk);
+    }
+
+    @Override
+    public CompletableFuture<ChunkAccess> fillFromNoise(Executor executor, Blender blender, RandomState randomState,
                                                         StructureManager structureManager, ChunkAccess chunk) {
         return CompletableFuture.supplyAsync(() -> {
+            boolean instrumented = stats.isEnabled();
+            long start = instrumented ? System.nanoTime() : 0L;
+            long allocatedBefore = instrumented ? AllocationTracker.currentThreadAllocatedBytes() : -1L;
+
             // Fill chunk using our tectonic density function
             fillChunkWithTectonicTerrain(chunk);
+
+            if (instrumented) {
+                long allocated = allocatedBefore >= 0
+                        ? AllocationTracker.currentThreadAllocatedBytes() - allocatedBefore
+                        : -1L;
+                stats.record(chunk.getPos(), System.nanoTime() - start, allocated);
+            }
             return chunk;
         }, executor);
     }
 
-    private void fillChunkWithTectonicTerrain(ChunkAccess chunk) {
+    // Package-private so the allocation tests can fill proto chunks directly
+    void fillChunkWithTectonicTerrain(ChunkAccess chunk) {
         ChunkPos chunkPos = chunk.getPos();
         int minY = chunk.getMinBuildHeight();
         int maxY = chunk.getMaxBuildHeight();
 
-        // Process each column in the chunk
+        Heightmap oceanFloor = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.OCEAN_FLOOR_WG);
+        Heightmap worldSurface = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.WORLD_SURFACE_WG);
+        StrataColumn strata = new StrataColumn(); // Reused for every column
+        ChunkColumns columns = columnCache.take(chunkPos); // Usually prefetched during the biome stage
+
+        int[] solidTops = new int[256];
+        int[] waterLevels = new int[256];
+
+        LevelChunkSection[] sections = chunk.getSections();
+        LevelChunkSection[] acquired = sections.clone(); // Uniform water sections may replace entries below
+        for (LevelChunkSection section : acquired) {
+            section.acquire();
+        }
+
+        try {
+            // Rock pass - column geology is decided once, then written as runs
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    TerrainProperties column = columns.get(localX, localZ);
+                    int topY = Math.min(columns.getSolidTop(localX, localZ), maxY - 1);
+                    strataEngine.build(column, minY, topY, strata);
+
+                    writeStrataRuns(chunk, localX, localZ, strata);
+                    writeAquifers(chunk, localX, localZ, strata, waterTable.getAquiferTop(column, topY));
+
+                    if (strata.getRunCount() > 0) {
+                        BlockState topState = strata.getRock(0).getBlockState();
+                        oceanFloor.update(localX, topY, localZ, topState);
+                        worldSurface.update(localX, topY, localZ, topState);
+                    }
+
+                    int index = (localZ << 4) | localX;
+                    solidTops[index] = Math.max(topY, minY - 1);
+                    waterLevels[index] = Math.min(waterTable.getWaterLevel(column), maxY);
+                }
+            }
+
+            fillWater(chunk, sections, solidTops, waterLevels);
+            placeDeposits(chunk, sections);
+        } finally {
+            for (LevelChunkSection section : acquired) {
+                section.release();
+            }
+        }
+
+        // Water is not motion blocking, so only the world surface heightmap sees it
         for (int localX = 0; localX < 16; localX++) {
             for (int localZ = 0; localZ < 16; localZ++) {
-                int worldX = chunkPos.x * 16 + localX;
-                int worldZ = chunkPos.z * 16 + localZ;
-
-                // Fill column based on density function
-                for (int y = minY; y < maxY; y++) {
-                    var context = new DensityFunction.SinglePointContext(worldX, y, worldZ);
-                    double density = densityFunction.compute(context);
-
-                    if (density > 0) {
-                        // Positive density = solid block
-                        BlockState blockState = getBlockStateForLocation(worldX, y, worldZ);
-                        chunk.setBlockState(new BlockPos(localX, y, localZ), blockState, false);
+                int index = (localZ << 4) | localX;
+                if (waterLevels[index] > solidTops[index] + 1) {
+                    worldSurface.update(localX, waterLevels[index] - 1, localZ, WATER);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fill every column with water from its solid top up to its water level.
+     * Sections lying entirely between the highest rock and the lowest water level are
+     * replaced with a single-value water palette; only mixed sections are written per block.
+     */
+    private void fillWater(ChunkAccess chunk, LevelChunkSection[] sections, int[] solidTops, int[] waterLevels) {
+        int lowestSolid = Integer.MAX_VALUE;
+        int highestSolid = Integer.MIN_VALUE;
+        int lowestWater = Integer.MAX_VALUE;
+        int highestWater = Integer.MIN_VALUE;
+        for (int i = 0; i < 256; i++) {
+            lowestSolid = Math.min(lowestSolid, solidTops[i]);
+            highestSolid = Math.max(highestSolid, solidTops[i]);
+            lowestWater = Math.min(lowestWater, waterLevels[i]);
+            highestWater = Math.max(highestWater, waterLevels[i]);
+        }
+
+        for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
+            int sectionMinY = chunk.getMinBuildHeight() + sectionIndex * 16;
+            int sectionMaxY = sectionMinY + 15;
+            if (sectionMaxY <= lowestSolid) {
+                continue; // Solid rock in every column
+            }
+            if (sectionMinY >= highestWater) {
+                break; // No water at or above this section
+            }
+
+            if (sectionMinY > highestSolid && sectionMaxY < lowestWater) {
+                // Fully submerged and empty - swap in a uniform water palette
+                sections[sectionIndex] = new LevelChunkSection(
+                        new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, WATER, PalettedContainer.Strategy.SECTION_STATES),
+                        sections[sectionIndex].getBiomes());
+                continue;
+            }
+
+            LevelChunkSection section = sections[sectionIndex];
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    int index = (localZ << 4) | localX;
+                    int bottom = Math.max(solidTops[index] + 1, sectionMinY);
+                    int top = Math.min(waterLevels[index] - 1, sectionMaxY);
+                    for (int y = bottom; y <= top; y++) {
+                        section.setBlockState(localX, y & 15, localZ, WATER, false);
                     }
                 }
             }
         }
     }
 
-    private BlockState getBlockStateForLocation(int x, int y, int z) {
-        // Get plate data to determine rock type
-        var plateData = plateSystem.getPlateAt(x, z);
-
-        // Simple rock type assignment based on depth and crust type
-        if (y < 0) {
-            // Deep crustal rocks
-            return plateData.getCrustType() == com.geogen.worldgen.plates.CrustType.OCEANIC
-                    ? Blocks.BASALT.defaultBlockState()
-                    : Blocks.STONE.defaultBlockState(); // Changed from GRANITE to STONE
-        } else if (y < 32) {
-            // Mid-level rocks
-            return plateData.getCrustType() == com.geogen.worldgen.plates.CrustType.OCEANIC
-                    ? Blocks.TUFF.defaultBlockState()
-                    : Blocks.ANDESITE.defaultBlockState();
-        } else {
-            // Surface level
-            return Blocks.STONE.defaultBlockState();
+    /**
+     * Replace host rock with ore inside the deposits that reach this chunk.
+     * Only the clipped bounds of each deposit are visited.
+     */
+    private void placeDeposits(ChunkAccess chunk, LevelChunkSection[] sections) {
+        ChunkPos chunkPos = chunk.getPos();
+        List<OreDeposit> deposits = new ArrayList<>();
+        depositIndex.collect(chunkPos.x, chunkPos.z, deposits);
+
+        for (OreDeposit deposit : deposits) {
+            int minX = Math.max(deposit.getCenterX() - deposit.getHorizontalRadius(), chunkPos.getMinBlockX());
+            int maxX = Math.min(deposit.getCenterX() + deposit.getHorizontalRadius(), chunkPos.getMaxBlockX());
+            int minZ = Math.max(deposit.getCenterZ() - deposit.getHorizontalRadius(), chunkPos.getMinBlockZ());
+            int maxZ = Math.min(deposit.getCenterZ() + deposit.getHorizontalRadius(), chunkPos.getMaxBlockZ());
+            int minY = Math.max(deposit.getCenterY() - deposit.getVerticalRadius(), chunk.getMinBuildHeight());
+            int maxY = Math.min(deposit.getCenterY() + deposit.getVerticalRadius(), chunk.getMaxBuildHeight() - 1);
+
+            for (int y = minY; y <= maxY; y++) {
+                LevelChunkSection section = sections[chunk.getSectionIndex(y)];
+                for (int x = minX; x <= maxX; x++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (!deposit.isOre(x, y, z)) {
+                            continue;
+                        }
+
+                        // Ore only replaces rock, never air or water
+                        BlockState host = section.getBlockState(x & 15, y & 15, z & 15);
+                        if (host.isAir() || !host.getFluidState().isEmpty()) {
+                            continue;
+                        }
+
+                        BlockState ore = host.is(Blocks.DEEPSLATE)
+                                ? deposit.getType().getDeepslateOre()
+                                : deposit.getType().getOre();
+                        section.setBlockState(x & 15, y & 15, z & 15, ore, false);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Saturate aquifer pockets in a column's sediment runs up to its aquifer top
+     */
+    private void writeAquifers(ChunkAccess chunk, int localX, int localZ, StrataColumn strata, int aquiferTop) {
+        int x = chunk.getPos().getBlockX(localX);
+        int z = chunk.getPos().getBlockZ(localZ);
+        for (int run = 0; run < strata.getRunCount(); run++) {
+            RockType rock = strata.getRock(run);
+            if (!rock.isSediment()) {
+                continue; // Crystalline rock is too tight to hold aquifers
+            }
+
+            int top = Math.min(strata.getTop(run), aquiferTop);
+            for (int y = strata.getBottom(run); y <= top; y++) {
+                if (waterTable.isAquiferPocket(x, y, z, rock)) {
+                    chunk.getSection(chunk.getSectionIndex(y)).setBlockState(localX, y & 15, localZ, WATER, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy a column's rock runs straight into the chunk sections
+     */
+    private void writeStrataRuns(ChunkAccess chunk, int localX, int localZ, StrataColumn strata) {
+        for (int run = 0; run < strata.getRunCount(); run++) {
+            BlockState state = strata.getRock(run).getBlockState();
+            int y = strata.getBottom(run);
+            int top = strata.getTop(run);
+
+            // Walk the run one section at a time so each section is looked up once
+            while (y <= top) {
+                LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+                int sectionTop = Math.min(top, (y & ~15) + 15);
+                for (; y <= sectionTop; y++) {
+                    section.setBlockState(localX, y & 15, localZ, state, false);
+                }
+            }
         }
     }
 
     @Override
     public int getSeaLevel() {
-        return 63; // Standard sea level
+        return WaterTable.SEA_LEVEL;
     }
 
     @Override
@@ -193,67 +377,68 @@ public abstract class GeoGenChunkGenerator extends ChunkGenerator {
 
     @Override
     public int getBaseHeight(int x, int z, Heightmap.Types heightmapType, LevelHeightAccessor level,
-                             RandomSource random) {
-        // Calculate terrain height using our geological system
-        var plateData = plateSystem.getPlateAt(x, z);
-
-        // Base height calculation (simplified version of density function logic)
-        double baseHeight = 64 + (plateData.getBaseElevation() * 32);
-        baseHeight += plateData.getCrustType().getElevationModifier() * 16;
-
-        // Add distance-from-center variation
-        double distanceToCenter = plateData.getDistanceToCenter(x, z);
-        double centerEffect = Math.exp(-distanceToCenter / 2048.0) * plateData.getAge() * 8;
-        baseHeight += centerEffect;
+                             RandomState randomState) {
+        // Same column sample the fill uses, so heightmaps match generated terrain
+        TerrainProperties column = sampler.sampleColumn(x, z);
+        int baseHeight = sampler.getSolidTop(column) + 1;
+
+        // Heightmaps that count water see the water surface rather than the sea floor
+        if (heightmapType.isOpaque().test(WATER)) {
+            baseHeight = Math.max(baseHeight, waterTable.getWaterLevel(column));
+        }
 
-        return (int) Math.max(level.getMinBuildHeight(), Math.min(level.getMaxBuildHeight() - 1, baseHeight));
+        return Math.max(level.getMinBuildHeight(), Math.min(level.getMaxBuildHeight() - 1, baseHeight));
     }
 
     @Override
-    public NoiseColumn getBaseColumn(int x, int z, LevelHeightAccessor level, RandomSource random) {
+    public NoiseColumn getBaseColumn(int x, int z, LevelHeightAccessor level, RandomState randomState) {
         // Create a noise column representing the terrain at this location
         int minY = level.getMinBuildHeight();
         int maxY = level.getMaxBuildHeight();
         BlockState[] states = new BlockState[maxY - minY];
 
-        for (int y = minY; y < maxY; y++) {
-            var context = new DensityFunction.SinglePointContext(x, y, z);
-            double density = densityFunction.compute(context);
+        StrataColumn strata = new StrataColumn();
+        TerrainProperties column = sampler.sampleColumn(x, z);
+        int topY = Math.min(sampler.getSolidTop(column), maxY - 1);
+        strataEngine.build(column, minY, topY, strata);
 
-            states[y - minY] = density > 0 ? getBlockStateForLocation(x, y, z) : Blocks.AIR.defaultBlockState();
+        Arrays.fill(states, Blocks.AIR.defaultBlockState());
+        int waterLevel = Math.min(waterTable.getWaterLevel(column), maxY);
+        if (waterLevel > topY + 1) {
+            Arrays.fill(states, Math.max(topY + 1, minY) - minY, waterLevel - minY, WATER);
+        }
+        int aquiferTop = waterTable.getAquiferTop(column, topY);
+        for (int run = 0; run < strata.getRunCount(); run++) {
+            RockType rock = strata.getRock(run);
+            Arrays.fill(states, strata.getBottom(run) - minY, strata.getTop(run) - minY + 1, rock.getBlockState());
+            if (rock.isSediment()) {
+                for (int y = strata.getBottom(run); y <= Math.min(strata.getTop(run), aquiferTop); y++) {
+                    if (waterTable.isAquiferPocket(x, y, z, rock)) {
+                        states[y - minY] = WATER;
+                    }
+                }
+            }
         }
 
         return new NoiseColumn(minY, states);
     }
 
     @Override
-    public void addDebugScreenInfo(List<String> info, RandomSource random, BlockPos pos) {
+    public void addDebugScreenInfo(List<String> info, RandomState randomState, BlockPos pos) {
         // Add geological debug information
         var plateData = plateSystem.getPlateAt(pos.getX(), pos.getZ());
-        double boundaryDistance = plateSystem.getDistanceToBoundary(pos.getX(), pos.getZ());
+        var boundary = plateSystem.getNearestBoundary(pos.getX(), pos.getZ());
 
         info.add("GeoGen Debug:");
-        info.add("Plate ID: " + plateData.getPlateId());
+        info.add("Plate Cell: " + plateData.getCellX() + ", " + plateData.getCellZ());
         info.add("Crust Type: " + plateData.getCrustType());
         info.add("Plate Age: " + String.format("%.2f", plateData.getAge()));
         info.add("Base Elevation: " + String.format("%.2f", plateData.getBaseElevation()));
-        info.add("Boundary Distance: " + String.format("%.1f", boundaryDistance));
+        info.add("Boundary Distance: " + String.format("%.1f", boundary.getDistance()));
+        if (boundary.hasBoundary()) {
+            info.add("Boundary Type: " + boundary.getInteraction().getBoundaryType()
+                    + String.format(" (%.2f)", boundary.getInteraction().getStrength()));
+        }
         info.add("Center Distance: " + String.format("%.1f", plateData.getDistanceToCenter(pos.getX(), pos.getZ())));
     }
-
-    @Override
-    public Climate.Sampler climateSampler() {
-        // Return a basic climate sampler - we'll enhance this later for realistic climate simulation
-        return (x, y, z) -> {
-            // Basic climate based on coordinates (temperature decreases with Z, humidity varies)
-            long temperature = (long) (-z * 100); // Colder toward negative Z
-            long humidity = (long) (Math.sin(x * 0.001) * 1000); // Vary humidity with X
-            long continentalness = 0; // Neutral continentalness for now
-            long erosion = 0; // No erosion factor yet
-            long depth = 0; // No depth factor
-            long weirdness = 0; // No weirdness
-
-            return Climate.target(temperature, humidity, continentalness, erosion, depth, weirdness);
-        };
-    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.geogen.worldgen.chunk;
+
+import com.geogen.Config;
+import com.geogen.worldgen.LongCache;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.visitors.CollectFields;
+import net.minecraft.nbt.visitors.FieldSelector;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkStatus;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefetches column data for chunks that moving players are about to load.
+ * Each player's position is sampled periodically; the view area around their predicted
+ * position is compared with the current one and the difference is prefetched, skipping chunks
+ * that are loaded or whose noise stage has already been saved to disk.
+ */
+public class TerrainPrefetcher {
+    private static final int SAMPLE_INTERVAL = 10; // Ticks between movement samples
+    private static final double MIN_SPEED = 0.1; // Blocks per tick below which players are treated as idle
+    private static final double MAX_SPEED = 4.0; // Blocks per tick above which a move is a teleport, faster than elytra flight
+
+    private static final Map<UUID, LastPosition> LAST_POSITIONS = new ConcurrentHashMap<>();
+    // Chunks found on disk per dimension, so they are not scanned again every sample
+    private static final Map<ResourceKey<Level>, LongCache<Boolean>> SAVED_CHUNKS = new ConcurrentHashMap<>();
+
+    public static void onServerTick(MinecraftServer server) {
+        if (server.getTickCount() % SAMPLE_INTERVAL != 0 || Config.columnCacheCapacity <= 0) {
+            return;
+        }
+
+        int viewDistance = server.getPlayerList().getViewDistance();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            ServerLevel level = player.serverLevel();
+            LastPosition last = LAST_POSITIONS.put(player.getUUID(),
+                    new LastPosition(level.dimension(), player.getX(), player.getZ()));
+            if (last == null || last.dimension != level.dimension()
+                    || !(level.getChunkSource().getGenerator() instanceof GeoGenChunkGenerator generator)) {
+                continue;
+            }
+
+            // Teleports and dimension changes say nothing about where the player is heading
+            double velocityX = (player.getX() - last.x) / SAMPLE_INTERVAL;
+            double velocityZ = (player.getZ() - last.z) / SAMPLE_INTERVAL;
+            double speedSquared = velocityX * velocityX + velocityZ * velocityZ;
+            if (speedSquared < MIN_SPEED * MIN_SPEED || speedSquared > MAX_SPEED * MAX_SPEED) {
+                continue;
+            }
+
+            prefetchAhead(level, generator, player, velocityX, velocityZ, viewDistance);
+        }
+
+        // Forget players who have left
+        LAST_POSITIONS.keySet().removeIf(id -> server.getPlayerList().getPlayer(id) == null);
+    }
+
+    /**
+     * Forget per-world state so the next server, e.g. another singleplayer world, starts clean
+     */
+    public static void reset() {
+        LAST_POSITIONS.clear();
+        SAVED_CHUNKS.clear();
+    }
+
+    private static void prefetchAhead(ServerLevel level, GeoGenChunkGenerator generator, ServerPlayer player,
+                                      double velocityX, double velocityZ, int viewDistance) {
+        int currentX = Mth.floor(player.getX()) >> 4;
+        int currentZ = Mth.floor(player.getZ()) >> 4;
+        int ticksAhead = Config.prefetchLookaheadTicks;
+        int predictedX = Mth.floor(player.getX() + velocityX * ticksAhead) >> 4;
+        int predictedZ = Mth.floor(player.getZ() + velocityZ * ticksAhead) >> 4;
+        if (predictedX == currentX && predictedZ == currentZ) {
+            return;
+        }
+
+        LongCache<Boolean> savedChunks = SAVED_CHUNKS.computeIfAbsent(level.dimension(),
+                dimension -> new LongCache<>(() -> Config.columnCacheCapacity * 4));
+        int budget = Config.prefetchChunksPerPlayer;
+        for (int dx = -viewDistance; dx <= viewDistance && budget > 0; dx++) {
+            for (int dz = -viewDistance; dz <= viewDistance && budget > 0; dz++) {
+                int chunkX = predictedX + dx;
+                int chunkZ = predictedZ + dz;
+
+                // Only chunks that will enter view, and are not already loaded or saved
+                if (Math.abs(chunkX - currentX) <= viewDistance && Math.abs(chunkZ - currentZ) <= viewDistance) {
+                    continue;
+                }
+                if (level.getChunkSource().hasChunk(chunkX, chunkZ)
+                        || savedChunks.getIfPresent(ChunkPos.asLong(chunkX, chunkZ)) != null) {
+                    continue;
+                }
+
+                prefetchIfUnsaved(level, generator, savedChunks, new ChunkPos(chunkX, chunkZ));
+                budget--;
+            }
+        }
+    }
+
+    /**
+     * Read the saved status of a chunk on the IO worker and prefetch only if its noise stage still has to run
+     */
+    private static void prefetchIfUnsaved(ServerLevel level, GeoGenChunkGenerator generator,
+                                          LongCache<Boolean> savedChunks, ChunkPos pos) {
+        CollectFields status = new CollectFields(new FieldSelector(StringTag.TYPE, "Status"));
+        level.getChunkSource().chunkMap.chunkScanner().scanChunk(pos, status).thenRun(() -> {
+            if (status.getResult() instanceof CompoundTag tag
+                    && ChunkStatus.byName(tag.getString("Status")).isOrAfter(ChunkStatus.NOISE)) {
+                savedChunks.put(pos.toLong(), Boolean.TRUE);
+            } else {
+                generator.getColumnCache().prefetch(pos.x, pos.z);
+            }
+        });
+    }
+
+    private static class LastPosition {
+        private final ResourceKey<Level> dimension;
+        private final double x;
+        private final double z;
+
+        LastPosition(ResourceKey<Level> dimension, double x, double z) {
+            this.dimension = dimension;
+            this.x = x;
+            this.z = z;
+        }
+    }
+}
\ No newline at end of file
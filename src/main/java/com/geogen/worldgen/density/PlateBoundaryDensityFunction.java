@@ -3,6 +3,7 @@ package com.geogen.worldgen.density;
 import com.geogen.worldgen.plates.PlateSystem;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.util.KeyDispatchDataCodec;
 import net.minecraft.world.level.levelgen.DensityFunction;
 
 /**
@@ -15,6 +16,7 @@ public class PlateBoundaryDensityFunction implements DensityFunction {
                     Codec.DOUBLE.fieldOf("boundary_threshold").orElse(256.0).forGetter(f -> f.boundaryThreshold)
             ).apply(instance, PlateBoundaryDensityFunction::new)
     );
+    private static final KeyDispatchDataCodec<PlateBoundaryDensityFunction> DISPATCH_CODEC = KeyDispatchDataCodec.of(CODEC);
 
     private final long seed;
     private final double boundaryThreshold;
@@ -58,7 +60,7 @@ public class PlateBoundaryDensityFunction implements DensityFunction {
     }
 
     @Override
-    public Codec<? extends DensityFunction> codec() {
-        return CODEC;
+    public KeyDispatchDataCodec<? extends DensityFunction> codec() {
+        return DISPATCH_CODEC;
     }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.geogen.worldgen.density;
 
+import com.geogen.worldgen.TerrainSampler;
 import com.geogen.worldgen.plates.PlateSystem;
-import com.geogen.worldgen.plates.PlateData;
-import com.geogen.worldgen.plates.CrustType;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.util.KeyDispatchDataCodec;
 import net.minecraft.world.level.levelgen.DensityFunction;
 
 /**
@@ -18,67 +18,27 @@ public class TectonicDensityFunction implements DensityFunction {
                     Codec.DOUBLE.fieldOf("height_scale").orElse(1.0).forGetter(f -> f.heightScale)
             ).apply(instance, TectonicDensityFunction::new)
     );
+    private static final KeyDispatchDataCodec<TectonicDensityFunction> DISPATCH_CODEC = KeyDispatchDataCodec.of(CODEC);
 
     private final long seed;
     private final double surfaceLevel;
     private final double heightScale;
-    private final PlateSystem plateSystem;
+    private final TerrainSampler sampler;
 
     public TectonicDensityFunction(long seed, double surfaceLevel, double heightScale) {
+        this(seed, surfaceLevel, heightScale, new PlateSystem(seed));
+    }
+
+    public TectonicDensityFunction(long seed, double surfaceLevel, double heightScale, PlateSystem plateSystem) {
         this.seed = seed;
         this.surfaceLevel = surfaceLevel;
         this.heightScale = heightScale;
-        this.plateSystem = new PlateSystem(seed);
+        this.sampler = new TerrainSampler(surfaceLevel, heightScale, plateSystem);
     }
 
     @Override
     public double compute(FunctionContext context) {
-        int x = context.blockX();
-        int y = context.blockY();
-        int z = context.blockZ();
-
-        // Get plate data for this location
-        PlateData plate = plateSystem.getPlateAt(x, z);
-
-        // Calculate base terrain height based on plate properties
-        double baseHeight = calculateTerrainHeight(plate, x, z);
-
-        // Calculate density: positive = solid, negative = air
-        double density = (baseHeight - y) * 0.1;
-
-        // Apply crust type modifications
-        if (plate.getCrustType() == CrustType.OCEANIC) {
-            density += 0.05; // Oceanic crust is denser
-        } else {
-            density -= 0.02; // Continental crust is less dense, more elevated
-        }
-
-        return density * heightScale;
-    }
-
-    private double calculateTerrainHeight(PlateData plate, double x, double z) {
-        // Base height from plate elevation
-        double height = surfaceLevel + (plate.getBaseElevation() * 32);
-
-        // Add crust type elevation modifier
-        height += plate.getCrustType().getElevationModifier() * 16;
-
-        // Add distance-from-center variation (older crust is more elevated toward center)
-        double distanceToCenter = plate.getDistanceToCenter(x, z);
-        double centerEffect = Math.exp(-distanceToCenter / 2048.0) * plate.getAge() * 8;
-        height += centerEffect;
-
-        // Add boundary effects
-        double boundaryDistance = plateSystem.getDistanceToBoundary(x, z);
-        if (boundaryDistance < 256) {
-            // Near plate boundaries - could be mountains or valleys depending on interaction type
-            double boundaryEffect = (1.0 - boundaryDistance / 256.0) * 12;
-
-            // For now, simple uplift near boundaries (will be refined with boundary type logic)
-            height += boundaryEffect;
-        }
-
-        return height;
+        return sampler.density(context.blockX(), context.blockY(), context.blockZ());
     }
 
     @Override
@@ -102,7 +62,7 @@ public class TectonicDensityFunction implements DensityFunction {
     }
 
     @Override
-    public Codec<? extends DensityFunction> codec() {
-        return CODEC;
+    public KeyDispatchDataCodec<? extends DensityFunction> codec() {
+        return DISPATCH_CODEC;
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.geogen.worldgen.hydrology;
+
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.noise.PositionHash;
+import com.geogen.worldgen.plates.CrustType;
+import com.geogen.worldgen.plates.PlateData;
+import com.geogen.worldgen.strata.RockType;
+
+/**
+ * Decides where water stands in and over a column.
+ * Oceans and seas fill everything below sea level. On continental crust, poorly drained
+ * bedrock holds a perched water table above sea level, flooding low ground into lakes,
+ * and permeable sediment below the water table is saturated in scattered aquifer pockets.
+ */
+public class WaterTable {
+    public static final int SEA_LEVEL = 63; // Standard sea level
+
+    private static final double MAX_PERCHED_HEAD = 8.0; // Blocks above sea level for fully impermeable crust
+    private static final double LAKE_MARGIN = 64.0; // Blocks from a plate boundary within which only sea-level water stands
+    private static final double RIM_WIDTH = 16.0; // Blocks of ground held at the perched level around each plate's lakes
+    private static final double RIM_SLOPE = 2.0; // Blocks the rim floor drops per block away from the rim
+    private static final int AQUIFER_COVER = 4; // Blocks of rock kept between aquifer pockets and the surface
+    private static final double AQUIFER_SATURATION = 0.5; // Share of pockets holding water in fully permeable rock
+
+    private final long seed;
+
+    public WaterTable(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Exclusive water level of a plate's perched water table, one level for the whole plate.
+     * Young crust drains through thick sediment, old shields expose tight basement rock; oceanic crust has none.
+     */
+    public static int getPerchedLevel(PlateData plate) {
+        if (plate.getCrustType() == CrustType.OCEANIC) {
+            return SEA_LEVEL;
+        }
+
+        double age = plate.getAge();
+        double permeability = RockType.CONTINENTAL_SEDIMENT.getPermeability() * (1.0 - age)
+                + RockType.GRANITIC_CRUST.getPermeability() * age;
+        return SEA_LEVEL + (int) (MAX_PERCHED_HEAD * (1.0 - permeability));
+    }
+
+    /**
+     * Lowest terrain height a column may have so perched lakes cannot spill. Ground in a ring RIM_WIDTH blocks
+     * wide just inside LAKE_MARGIN stands at least at the plate's perched level, closing off every column that
+     * holds perched water; away from the ring the floor drops by RIM_SLOPE per block, so it only lifts ground
+     * that would otherwise be lower than the lake. Negative infinity where the plate has no perched water.
+     */
+    public static double getRimFloor(PlateData plate, double boundaryDistance) {
+        int level = getPerchedLevel(plate);
+        if (level <= SEA_LEVEL) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        double outsideRim = Math.max(LAKE_MARGIN - RIM_WIDTH - boundaryDistance, boundaryDistance - LAKE_MARGIN);
+        return level - RIM_SLOPE * Math.max(0.0, outsideRim);
+    }
+
+    /**
+     * Exclusive water level for a column: blocks above the solid top and below this Y are water.
+     * Columns at least LAKE_MARGIN from the plate's boundaries take the plate's perched level, and the terrain
+     * floor from getRimFloor walls them in; everything nearer a boundary, on any plate, is at sea level.
+     * Neighbouring columns therefore hold water to the same level or are solid up to the higher one.
+     */
+    public int getWaterLevel(TerrainProperties column) {
+        if (column.getBoundaryDistance() < LAKE_MARGIN) {
+            return SEA_LEVEL;
+        }
+        return getPerchedLevel(column.getPlateData());
+    }
+
+    /**
+     * Highest Y at which aquifer pockets may hold water in a column whose top solid block is at solidTop.
+     * Pockets stay under AQUIFER_COVER blocks of rock and two blocks below the water level, where every
+     * neighbouring column is either water or rock, so they are sealed and never need to flow.
+     * Oceanic crust is sealed by the sea floor and holds none.
+     */
+    public int getAquiferTop(TerrainProperties column, int solidTop) {
+        if (column.getCrustType() == CrustType.OCEANIC) {
+            return Integer.MIN_VALUE;
+        }
+        return Math.min(getWaterLevel(column) - 2, solidTop - AQUIFER_COVER);
+    }
+
+    /**
+     * Whether a sediment block at or below the aquifer top is saturated.
+     * Pockets are 4 x 2 x 4 block cells; the share holding water grows with the rock's permeability.
+     */
+    public boolean isAquiferPocket(int x, int y, int z, RockType rock) {
+        return PositionHash.unit(seed, x >> 2, y >> 1, z >> 2) < rock.getPermeability() * AQUIFER_SATURATION;
+    }
+}
\ No newline at end of file
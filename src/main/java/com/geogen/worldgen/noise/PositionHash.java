@@ -0,0 +1,20 @@
+package com.geogen.worldgen.noise;
+
+/**
+ * Stateless hash of a seeded grid position, for scattering blocks without a random source
+ */
+public final class PositionHash {
+    private PositionHash() {
+    }
+
+    /**
+     * Uniform value in [0, 1) for a position, mixed with the splitmix64 finalizer
+     */
+    public static double unit(long seed, int x, int y, int z) {
+        long hash = seed ^ (x * 0x9E3779B97F4A7C15L) ^ (y * 0xC2B2AE3D27D4EB4FL) ^ (z * 0x165667B19E3779F9L);
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 31;
+        return (hash >>> 40) * 0x1.0p-24;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.geogen.worldgen.ore;
+
+import com.geogen.Config;
+import com.geogen.worldgen.LongCache;
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.TerrainSampler;
+import com.geogen.worldgen.plates.BoundarySample;
+import com.geogen.worldgen.plates.BoundaryType;
+import com.geogen.worldgen.plates.CrustType;
+import com.geogen.worldgen.plates.PlateData;
+import net.minecraft.util.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Sparse index of ore deposits, built once per region from plate geology.
+ * A chunk only visits the few deposits whose bounds reach it, so mineral generation
+ * costs time proportional to the deposits rather than to the chunk volume.
+ */
+public class DepositIndex {
+    private static final int REGION_SHIFT = 8; // 256 x 256 block regions
+    private static final int CANDIDATES_PER_REGION = 32;
+    private static final OreDeposit[] NO_DEPOSITS = new OreDeposit[0];
+
+    private final long seed;
+    private final TerrainSampler sampler;
+    private final LongCache<OreDeposit[]> regions = new LongCache<>(() -> Config.depositIndexCapacity);
+    private final LongFunction<OreDeposit[]> regionBuilder = this::buildRegion; // Created once, not per lookup
+
+    public DepositIndex(long seed, TerrainSampler sampler) {
+        this.seed = seed;
+        this.sampler = sampler;
+    }
+
+    /**
+     * Collect the deposits that reach into a chunk
+     */
+    public void collect(int chunkX, int chunkZ, List<OreDeposit> out) {
+        int minX = chunkX * 16 - DepositType.MAX_HORIZONTAL_RADIUS;
+        int maxX = chunkX * 16 + 15 + DepositType.MAX_HORIZONTAL_RADIUS;
+        int minZ = chunkZ * 16 - DepositType.MAX_HORIZONTAL_RADIUS;
+        int maxZ = chunkZ * 16 + 15 + DepositType.MAX_HORIZONTAL_RADIUS;
+
+        // Usually one region, up to four when the chunk sits near a region corner
+        for (int regionX = minX >> REGION_SHIFT; regionX <= maxX >> REGION_SHIFT; regionX++) {
+            for (int regionZ = minZ >> REGION_SHIFT; regionZ <= maxZ >> REGION_SHIFT; regionZ++) {
+                for (OreDeposit deposit : getRegion(regionX, regionZ)) {
+                    if (deposit.intersectsChunk(chunkX, chunkZ)) {
+                        out.add(deposit);
+                    }
+                }
+            }
+        }
+    }
+
+    private OreDeposit[] getRegion(int regionX, int regionZ) {
+        return regions.get(((long) regionX << 32) | (regionZ & 0xFFFFFFFFL), regionBuilder);
+    }
+
+    private OreDeposit[] buildRegion(long key) {
+        int regionX = (int) (key >> 32);
+        int regionZ = (int) key;
+        RandomSource random = RandomSource.create(seed ^ (regionX * 341873128712L) ^ (regionZ * 132897987541L));
+        List<OreDeposit> deposits = new ArrayList<>();
+
+        for (int i = 0; i < CANDIDATES_PER_REGION; i++) {
+            int x = (regionX << REGION_SHIFT) + random.nextInt(1 << REGION_SHIFT);
+            int z = (regionZ << REGION_SHIFT) + random.nextInt(1 << REGION_SHIFT);
+            double roll = random.nextDouble();
+
+            TerrainProperties column = sampler.sampleColumn(x, z);
+            DepositType type = chooseType(column, roll);
+            if (type == null) {
+                continue;
+            }
+
+            int horizontalRadius = between(random, type.getMinHorizontalRadius(), type.getMaxHorizontalRadius());
+            int verticalRadius = between(random, type.getMinVerticalRadius(), type.getMaxVerticalRadius());
+            int y = sampler.getSolidTop(column) - between(random, type.getMinDepth(), type.getMaxDepth());
+            deposits.add(new OreDeposit(type, x, y, z, horizontalRadius, verticalRadius, random.nextLong()));
+        }
+
+        return deposits.isEmpty() ? NO_DEPOSITS : deposits.toArray(NO_DEPOSITS);
+    }
+
+    /**
+     * Pick a deposit type for a candidate site from its geology, or null for barren rock
+     */
+    private static DepositType chooseType(TerrainProperties column, double roll) {
+        PlateData plate = column.getPlateData();
+        BoundarySample boundary = column.getBoundary();
+
+        double influence = boundary.getInfluence();
+        BoundaryType boundaryType = boundary.hasBoundary() ? boundary.getInteraction().getBoundaryType() : null;
+
+        if (boundaryType == BoundaryType.CONVERGENT && influence > 0.2 && boundary.getRelief() > 0) {
+            // Collision belts host gold veins, magmatic arcs host porphyry copper
+            boolean collision = plate.getCrustType() == CrustType.CONTINENTAL
+                    && boundary.getNeighbor().getCrustType() == CrustType.CONTINENTAL;
+            if (collision) {
+                return roll < 0.5 * influence ? DepositType.OROGENIC_GOLD : null;
+            }
+            return roll < 0.6 * influence ? DepositType.PORPHYRY_COPPER : null;
+        }
+
+        if (plate.getCrustType() == CrustType.OCEANIC) {
+            boolean ridge = boundaryType == BoundaryType.DIVERGENT && influence > 0.3;
+            return ridge && roll < 0.4 * influence ? DepositType.VOLCANOGENIC_SULFIDE : null;
+        }
+
+        // Stable continental interior - deposits follow crust age
+        double age = plate.getAge();
+        if (age > 0.8 && roll < 0.08) {
+            return DepositType.KIMBERLITE_DIAMOND;
+        }
+        if (age > 0.6 && roll < (age - 0.6) * 1.5) {
+            return DepositType.BANDED_IRON;
+        }
+        if (age < 0.5 && roll < 0.4 * (1.0 - age)) {
+            return DepositType.SEDIMENTARY_COAL;
+        }
+        return null;
+    }
+
+    private static int between(RandomSource random, int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.geogen.worldgen.ore;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+public enum DepositType {
+    // Ore, deepslate-hosted ore, horizontal radius, vertical radius, depth below surface, fraction of host replaced
+    PORPHYRY_COPPER(Blocks.COPPER_ORE, Blocks.DEEPSLATE_COPPER_ORE, 8, 14, 10, 18, 20, 60, 0.25), // Large low-grade stocks above subduction zones
+    VOLCANOGENIC_SULFIDE(Blocks.COPPER_ORE, Blocks.DEEPSLATE_COPPER_ORE, 4, 7, 3, 5, 2, 12, 0.4), // Sulfide mounds at spreading ridges
+    OROGENIC_GOLD(Blocks.GOLD_ORE, Blocks.DEEPSLATE_GOLD_ORE, 2, 4, 8, 16, 10, 50, 0.35), // Steep quartz veins in collision belts
+    BANDED_IRON(Blocks.IRON_ORE, Blocks.DEEPSLATE_IRON_ORE, 10, 16, 2, 4, 8, 40, 0.5), // Flat iron formations in old continental crust
+    KIMBERLITE_DIAMOND(Blocks.DIAMOND_ORE, Blocks.DEEPSLATE_DIAMOND_ORE, 2, 3, 20, 30, 40, 100, 0.05), // Narrow pipes through ancient cratons
+    SEDIMENTARY_COAL(Blocks.COAL_ORE, Blocks.DEEPSLATE_COAL_ORE, 12, 16, 1, 2, 4, 24, 0.8); // Seams in young sedimentary basins
+
+    public static final int MAX_HORIZONTAL_RADIUS = 16;
+
+    private final BlockState ore;
+    private final BlockState deepslateOre;
+    private final int minHorizontalRadius, maxHorizontalRadius;
+    private final int minVerticalRadius, maxVerticalRadius;
+    private final int minDepth, maxDepth;
+    private final double oreFraction;
+
+    DepositType(Block ore, Block deepslateOre, int minHorizontalRadius, int maxHorizontalRadius,
+                int minVerticalRadius, int maxVerticalRadius, int minDepth, int maxDepth, double oreFraction) {
+        this.ore = ore.defaultBlockState();
+        this.deepslateOre = deepslateOre.defaultBlockState();
+        this.minHorizontalRadius = minHorizontalRadius;
+        this.maxHorizontalRadius = maxHorizontalRadius;
+        this.minVerticalRadius = minVerticalRadius;
+        this.maxVerticalRadius = maxVerticalRadius;
+        this.minDepth = minDepth;
+        this.maxDepth = maxDepth;
+        this.oreFraction = oreFraction;
+    }
+
+    public BlockState getOre() { return ore; }
+    public BlockState getDeepslateOre() { return deepslateOre; }
+    public int getMinHorizontalRadius() { return minHorizontalRadius; }
+    public int getMaxHorizontalRadius() { return maxHorizontalRadius; }
+    public int getMinVerticalRadius() { return minVerticalRadius; }
+    public int getMaxVerticalRadius() { return maxVerticalRadius; }
+    public int getMinDepth() { return minDepth; }
+    public int getMaxDepth() { return maxDepth; }
+    public double getOreFraction() { return oreFraction; }
+}
\ No newline at end of file
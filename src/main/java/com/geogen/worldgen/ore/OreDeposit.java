@@ -0,0 +1,52 @@
+package com.geogen.worldgen.ore;
+
+import com.geogen.worldgen.noise.PositionHash;
+
+/**
+ * A single ellipsoidal ore body
+ */
+public class OreDeposit {
+    private final DepositType type;
+    private final int centerX, centerY, centerZ;
+    private final int horizontalRadius, verticalRadius;
+    private final long seed; // Selects which blocks inside the body are ore
+
+    public OreDeposit(DepositType type, int centerX, int centerY, int centerZ,
+                      int horizontalRadius, int verticalRadius, long seed) {
+        this.type = type;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.horizontalRadius = horizontalRadius;
+        this.verticalRadius = verticalRadius;
+        this.seed = seed;
+    }
+
+    public boolean intersectsChunk(int chunkX, int chunkZ) {
+        int minX = chunkX * 16;
+        int minZ = chunkZ * 16;
+        return centerX + horizontalRadius >= minX && centerX - horizontalRadius <= minX + 15
+                && centerZ + horizontalRadius >= minZ && centerZ - horizontalRadius <= minZ + 15;
+    }
+
+    /**
+     * Whether the block at the given position is ore, given it lies in host rock
+     */
+    public boolean isOre(int x, int y, int z) {
+        double dx = (double) (x - centerX) / horizontalRadius;
+        double dy = (double) (y - centerY) / verticalRadius;
+        double dz = (double) (z - centerZ) / horizontalRadius;
+        if (dx * dx + dy * dy + dz * dz > 1.0) {
+            return false;
+        }
+
+        return PositionHash.unit(seed, x, y, z) < type.getOreFraction();
+    }
+
+    public DepositType getType() { return type; }
+    public int getCenterX() { return centerX; }
+    public int getCenterY() { return centerY; }
+    public int getCenterZ() { return centerZ; }
+    public int getHorizontalRadius() { return horizontalRadius; }
+    public int getVerticalRadius() { return verticalRadius; }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.geogen.worldgen.plates;
+
+/**
+ * Result of a boundary search: the nearest neighbouring plate, how the two plates interact, and boundary relief
+ */
+public class BoundarySample {
+    public static final double INFLUENCE_DISTANCE = 256.0; // Blocks over which boundary geology fades out
+
+    private double distance;
+    private PlateData neighbor; // null when no boundary is within the search radius
+    private PlateInteraction interaction;
+    private double relief; // Summed over every boundary of the plate within the search radius
+
+    public BoundarySample() {
+    }
+
+    public BoundarySample(double distance, PlateData neighbor, PlateInteraction interaction, double relief) {
+        set(distance, neighbor, interaction, relief);
+    }
+
+    BoundarySample set(double distance, PlateData neighbor, PlateInteraction interaction, double relief) {
+        this.distance = distance;
+        this.neighbor = neighbor;
+        this.interaction = interaction;
+        this.relief = relief;
+        return this;
+    }
+
+    public double getDistance() { return distance; }
+    public PlateData getNeighbor() { return neighbor; }
+    public PlateInteraction getInteraction() { return interaction; }
+
+    public boolean hasBoundary() {
+        return interaction != null;
+    }
+
+    /**
+     * Strength of the boundary's geology here: its interaction strength at the boundary, fading to 0.0
+     * at INFLUENCE_DISTANCE, and 0.0 when there is no boundary
+     */
+    public double getInfluence() {
+        if (interaction == null) {
+            return 0.0;
+        }
+        return Math.max(0.0, 1.0 - distance / INFLUENCE_DISTANCE) * interaction.getStrength();
+    }
+
+    /**
+     * Height offset contributed by the plate's boundaries at this point
+     */
+    public double getRelief() {
+        return relief;
+    }
+}
\ No newline at end of file
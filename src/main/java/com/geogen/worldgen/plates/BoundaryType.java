@@ -0,0 +1,10 @@
+package com.geogen.worldgen.plates;
+
+/**
+ * Kind of interaction between two adjacent plates, derived from their relative motion
+ */
+public enum BoundaryType {
+    CONVERGENT, // Plates moving toward each other - trenches, arcs and mountain belts
+    DIVERGENT, // Plates moving apart - ridges and rift valleys
+    TRANSFORM // Plates sliding past each other - fault valleys
+}
\ No newline at end of file
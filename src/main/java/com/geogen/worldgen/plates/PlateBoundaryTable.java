@@ -0,0 +1,158 @@
+package com.geogen.worldgen.plates;
+
+import com.geogen.Config;
+import com.geogen.worldgen.LongCache;
+import net.minecraft.util.Mth;
+
+import java.util.function.LongFunction;
+
+/**
+ * Table of boundary interactions keyed by plate pair.
+ * Boundary type and strength are classified once per adjacent pair from relative
+ * velocity and crust types, so terrain generation never evaluates plate physics per block.
+ */
+public class PlateBoundaryTable {
+    // Relative speeds above this count as full strength (plate speeds are 0.1 to 1.0)
+    private static final double MAX_RELATIVE_SPEED = 1.5;
+
+    // Relief amplitudes in blocks at full strength
+    private static final double MOUNTAIN_BELT = 56.0;
+    private static final double VOLCANIC_ARC = 36.0;
+    private static final double ISLAND_ARC = 24.0;
+    private static final double TRENCH = -40.0;
+    private static final double MID_OCEAN_RIDGE = 18.0;
+    private static final double RIFT_VALLEY = -20.0;
+    private static final double FAULT_VALLEY = -6.0;
+
+    private final LongCache<PlateInteraction> interactions = new LongCache<>(() -> Config.boundaryTableCapacity);
+    private final LongFunction<PlateInteraction> classifier = this::classify;
+    private final PlateSystem plateSystem;
+
+    public PlateBoundaryTable(PlateSystem plateSystem) {
+        this.plateSystem = plateSystem;
+    }
+
+    /**
+     * Get the interaction between two adjacent plates, classifying the pair on first use
+     */
+    public PlateInteraction get(PlateData a, PlateData b) {
+        return interactions.get(pairKey(a, b), classifier);
+    }
+
+    public int size() {
+        return interactions.size();
+    }
+
+    /**
+     * Pack a pair of neighbouring plates into one key: the lower plate's cell plus the
+     * offset to the higher plate's cell. Neighbours found by PlateSystem are at most
+     * two cells apart, well inside the 4-bit offset range.
+     */
+    static long pairKey(PlateData a, PlateData b) {
+        PlateData low = a.getPlateKey() <= b.getPlateKey() ? a : b;
+        PlateData high = low == a ? b : a;
+        int offsetX = high.getCellX() - low.getCellX();
+        int offsetZ = high.getCellZ() - low.getCellZ();
+        return ((long) (low.getCellX() & 0xFFFFFF) << 32)
+                | ((long) (low.getCellZ() & 0xFFFFFF) << 8)
+                | ((offsetX & 0xF) << 4)
+                | (offsetZ & 0xF);
+    }
+
+    private PlateInteraction classify(long pairKey) {
+        // Unpack the pair; the low plate always comes first so the entry is independent of lookup direction
+        int lowX = (int) (pairKey >> 32) << 8 >> 8;
+        int lowZ = (int) (pairKey >> 8) << 8 >> 8;
+        int offsetX = (int) (pairKey >> 4) << 28 >> 28;
+        int offsetZ = (int) pairKey << 28 >> 28;
+        PlateData low = plateSystem.getPlate(PlateData.cellKey(lowX, lowZ));
+        PlateData high = plateSystem.getPlate(PlateData.cellKey(lowX + offsetX, lowZ + offsetZ));
+        PlateEdge edge = plateSystem.findEdge(low, high);
+
+        // Boundary normal pointing from the low plate toward the high plate.
+        // The centers are the Voronoi sites, so this is exactly perpendicular to the shared edge.
+        double nx = high.getCenterX() - low.getCenterX();
+        double nz = high.getCenterZ() - low.getCenterZ();
+        double length = Math.sqrt(nx * nx + nz * nz);
+        if (length > 0) {
+            nx /= length;
+            nz /= length;
+        } else {
+            nx = 1.0;
+            nz = 0.0;
+        }
+
+        // Velocity of the low plate relative to the high plate
+        double vx = Math.cos(low.getMovementDirection()) * low.getMovementSpeed()
+                - Math.cos(high.getMovementDirection()) * high.getMovementSpeed();
+        double vz = Math.sin(low.getMovementDirection()) * low.getMovementSpeed()
+                - Math.sin(high.getMovementDirection()) * high.getMovementSpeed();
+
+        double closing = vx * nx + vz * nz; // Positive = plates approaching
+        double shear = Math.abs(vx * nz - vz * nx);
+
+        BoundaryType type;
+        if (Math.abs(closing) >= shear) {
+            type = closing > 0 ? BoundaryType.CONVERGENT : BoundaryType.DIVERGENT;
+        } else {
+            type = BoundaryType.TRANSFORM;
+        }
+
+        double strength = Mth.clamp(Math.sqrt(vx * vx + vz * vz) / MAX_RELATIVE_SPEED, 0.0, 1.0);
+
+        switch (type) {
+            case CONVERGENT:
+                return convergent(low, high, strength, edge);
+            case DIVERGENT:
+                return divergent(low, high, strength, edge);
+            default:
+                return new PlateInteraction(type, strength, edge, low.getPlateKey(),
+                        FAULT_VALLEY * strength, 0.0, 24.0,
+                        FAULT_VALLEY * strength, 0.0, 24.0);
+        }
+    }
+
+    private static PlateInteraction convergent(PlateData low, PlateData high, double strength, PlateEdge edge) {
+        boolean lowOceanic = low.getCrustType() == CrustType.OCEANIC;
+        boolean highOceanic = high.getCrustType() == CrustType.OCEANIC;
+
+        if (!lowOceanic && !highOceanic) {
+            // Continental collision - broad mountain belt straddling the suture
+            return new PlateInteraction(BoundaryType.CONVERGENT, strength, edge, low.getPlateKey(),
+                    MOUNTAIN_BELT * strength, 0.0, 128.0,
+                    MOUNTAIN_BELT * strength, 0.0, 128.0);
+        }
+
+        // Denser (oceanic, then older) plate subducts beneath the other
+        boolean lowSubducts;
+        if (lowOceanic != highOceanic) {
+            lowSubducts = lowOceanic;
+        } else {
+            lowSubducts = low.getAge() >= high.getAge();
+        }
+
+        // Overriding continental crust builds a volcanic arc, overriding oceanic crust an island arc
+        boolean overridingOceanic = lowSubducts ? highOceanic : lowOceanic;
+        double arc = (overridingOceanic ? ISLAND_ARC : VOLCANIC_ARC) * strength;
+        double arcOffset = overridingOceanic ? 64.0 : 96.0;
+        double trench = TRENCH * strength;
+
+        if (lowSubducts) {
+            return new PlateInteraction(BoundaryType.CONVERGENT, strength, edge, low.getPlateKey(),
+                    trench, 16.0, 40.0,
+                    arc, arcOffset, 72.0);
+        }
+        return new PlateInteraction(BoundaryType.CONVERGENT, strength, edge, low.getPlateKey(),
+                arc, arcOffset, 72.0,
+                trench, 16.0, 40.0);
+    }
+
+    private static PlateInteraction divergent(PlateData low, PlateData high, double strength, PlateEdge edge) {
+        double lowRelief = low.getCrustType() == CrustType.OCEANIC ? MID_OCEAN_RIDGE : RIFT_VALLEY;
+        double highRelief = high.getCrustType() == CrustType.OCEANIC ? MID_OCEAN_RIDGE : RIFT_VALLEY;
+
+        return new PlateInteraction(BoundaryType.DIVERGENT, strength, edge, low.getPlateKey(),
+                lowRelief * strength, 0.0, 64.0,
+                highRelief * strength, 0.0, 64.0);
+    }
+}
\ No newline at end of file
@@ -3,7 +3,7 @@ package com.geogen.worldgen.plates;
 import net.minecraft.util.Mth;
 
 public class PlateData {
-    private final int plateId;
+    private final int cellX, cellZ; // Grid cell the plate center was scattered from
     private final double centerX, centerZ;
     private final double age; // 0.0 to 1.0, where 1.0 is oldest
     private final double movementDirection; // radians
@@ -11,9 +11,10 @@ public class PlateData {
     private final double baseElevation; // -1.0 to 1.0
     private final CrustType crustType;
 
-    public PlateData(int plateId, double centerX, double centerZ, double age,
+    public PlateData(int cellX, int cellZ, double centerX, double centerZ, double age,
                      double movementDirection, double movementSpeed, double baseElevation) {
-        this.plateId = plateId;
+        this.cellX = cellX;
+        this.cellZ = cellZ;
         this.centerX = centerX;
         this.centerZ = centerZ;
         this.age = age;
@@ -38,8 +39,17 @@ public class PlateData {
         return Math.sqrt(dx * dx + dz * dz);
     }
 
+    /**
+     * Unique key for the grid cell a plate belongs to, used to identify plates in caches and pair tables
+     */
+    public static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
     // Getters
-    public int getPlateId() { return plateId; }
+    public long getPlateKey() { return cellKey(cellX, cellZ); }
+    public int getCellX() { return cellX; }
+    public int getCellZ() { return cellZ; }
     public double getCenterX() { return centerX; }
     public double getCenterZ() { return centerZ; }
     public double getAge() { return age; }
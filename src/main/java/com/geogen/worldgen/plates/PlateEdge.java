@@ -0,0 +1,32 @@
+package com.geogen.worldgen.plates;
+
+/**
+ * Shared Voronoi edge between two adjacent plates, stored as a segment in block coordinates
+ */
+public class PlateEdge {
+    private final double startX, startZ;
+    private final double endX, endZ;
+
+    public PlateEdge(double startX, double startZ, double endX, double endZ) {
+        this.startX = startX;
+        this.startZ = startZ;
+        this.endX = endX;
+        this.endZ = endZ;
+    }
+
+    /**
+     * Distance in blocks from a point to the nearest point on the edge
+     */
+    public double distanceTo(double x, double z) {
+        double edgeX = endX - startX;
+        double edgeZ = endZ - startZ;
+        double lengthSq = edgeX * edgeX + edgeZ * edgeZ;
+
+        double t = lengthSq > 0 ? ((x - startX) * edgeX + (z - startZ) * edgeZ) / lengthSq : 0.0;
+        t = Math.max(0.0, Math.min(1.0, t));
+
+        double dx = x - (startX + edgeX * t);
+        double dz = z - (startZ + edgeZ * t);
+        return Math.sqrt(dx * dx + dz * dz);
+    }
+}
\ No newline at end of file
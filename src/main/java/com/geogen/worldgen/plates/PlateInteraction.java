@@ -0,0 +1,54 @@
+package com.geogen.worldgen.plates;
+
+/**
+ * Precomputed interaction between a pair of adjacent plates.
+ * Each side of the boundary gets its own relief profile so a single lookup
+ * is enough to produce trenches, ridges and mountain belts per block.
+ */
+public class PlateInteraction {
+    private final BoundaryType boundaryType;
+    private final double strength; // 0.0 to 1.0
+    private final PlateEdge edge; // null when the two plates do not touch
+
+    // Relief profile for the plate with the lower key
+    private final long lowPlateKey;
+    private final double lowAmplitude, lowPeakOffset, lowWidth;
+
+    // Relief profile for the plate with the higher key
+    private final double highAmplitude, highPeakOffset, highWidth;
+
+    public PlateInteraction(BoundaryType boundaryType, double strength, PlateEdge edge, long lowPlateKey,
+                            double lowAmplitude, double lowPeakOffset, double lowWidth,
+                            double highAmplitude, double highPeakOffset, double highWidth) {
+        this.boundaryType = boundaryType;
+        this.strength = strength;
+        this.edge = edge;
+        this.lowPlateKey = lowPlateKey;
+        this.lowAmplitude = lowAmplitude;
+        this.lowPeakOffset = lowPeakOffset;
+        this.lowWidth = lowWidth;
+        this.highAmplitude = highAmplitude;
+        this.highPeakOffset = highPeakOffset;
+        this.highWidth = highWidth;
+    }
+
+    /**
+     * Height offset for a block on the given plate at the given distance from the boundary
+     */
+    public double getRelief(long plateKey, double boundaryDistance) {
+        if (plateKey == lowPlateKey) {
+            return profile(lowAmplitude, lowPeakOffset, lowWidth, boundaryDistance);
+        }
+        return profile(highAmplitude, highPeakOffset, highWidth, boundaryDistance);
+    }
+
+    private static double profile(double amplitude, double peakOffset, double width, double distance) {
+        // Gaussian bump centred peakOffset blocks into the plate
+        double t = (distance - peakOffset) / width;
+        return amplitude * Math.exp(-t * t);
+    }
+
+    public BoundaryType getBoundaryType() { return boundaryType; }
+    public double getStrength() { return strength; }
+    public PlateEdge getEdge() { return edge; }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.geogen.worldgen.plates;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * Settings that decide where plates and their boundaries lie.
+ * They are part of the generator settings saved with the world, so every chunk of a world
+ * is generated from the same layout no matter which server or tool generates it.
+ */
+public class PlateLayout {
+    public static final PlateLayout DEFAULT = new PlateLayout(2048, 0.0001, 512);
+
+    public static final Codec<PlateLayout> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                    Codec.intRange(256, 16384).fieldOf("grid_size").orElse(DEFAULT.gridSize)
+                            .forGetter(layout -> layout.gridSize),
+                    Codec.doubleRange(0.000001, 0.01).fieldOf("plate_scale").orElse(DEFAULT.plateScale)
+                            .forGetter(layout -> layout.plateScale),
+                    Codec.intRange(64, 2048).fieldOf("boundary_search_radius").orElse(DEFAULT.boundarySearchRadius)
+                            .forGetter(layout -> layout.boundarySearchRadius)
+            ).apply(instance, PlateLayout::new)
+    );
+
+    private final int gridSize; // Distance in blocks between potential plate centers
+    private final double plateScale; // Noise scale for plate age and elevation
+    private final int boundarySearchRadius; // Boundaries farther than this many blocks from a column have no effect on it
+
+    public PlateLayout(int gridSize, double plateScale, int boundarySearchRadius) {
+        this.gridSize = gridSize;
+        this.plateScale = plateScale;
+        this.boundarySearchRadius = boundarySearchRadius;
+    }
+
+    public int getGridSize() { return gridSize; }
+    public double getPlateScale() { return plateScale; }
+    public int getBoundarySearchRadius() { return boundarySearchRadius; }
+}
\ No newline at end of file
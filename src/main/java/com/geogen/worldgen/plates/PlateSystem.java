@@ -1,128 +1,374 @@
 package com.geogen.worldgen.plates;
 
+import com.geogen.Config;
+import com.geogen.worldgen.LongCache;
 import com.geogen.worldgen.noise.SimplexNoise;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.LongFunction;
 
 public class PlateSystem {
     private final long seed;
+    private final PlateLayout layout;
     private final SimplexNoise plateNoise;
     private final SimplexNoise ageNoise;
     private final SimplexNoise elevationNoise;
-    private final Map<Integer, PlateData> plateCache;
+    private final LongCache<PlateData> plateCache;
+    private final LongFunction<PlateData> plateFactory = cell -> generatePlateData((int) (cell >> 32), (int) cell);
+    private final PlateBoundaryTable boundaryTable;
 
     // Configuration
-    private static final double PLATE_SCALE = 0.0001; // Large plates
     private static final int PLATE_COUNT_ESTIMATE = 20; // Approximate number of plates
+    private static final int CELL_SEARCH = 2; // Cells searched on each side for nearest centers and neighbours
+    private static final double SEAM_WIDTH = 8.0; // Blocks over which relief is blended across a boundary
 
     public PlateSystem(long seed) {
+        this(seed, PlateLayout.DEFAULT);
+    }
+
+    public PlateSystem(long seed, PlateLayout layout) {
         this.seed = seed;
+        this.layout = layout;
         this.plateNoise = new SimplexNoise(RandomSource.create(seed));
         this.ageNoise = new SimplexNoise(RandomSource.create(seed + 1));
         this.elevationNoise = new SimplexNoise(RandomSource.create(seed + 2));
-        this.plateCache = new HashMap<>();
+        this.plateCache = new LongCache<>(() -> Config.plateCacheCapacity);
+        this.boundaryTable = new PlateBoundaryTable(this);
     }
 
     /**
      * Get the plate data for coordinates using Voronoi (distance-based) method
      */
     public PlateData getPlateAt(double x, double z) {
-        // Use noise to generate pseudo-random plate centers
-        int plateId = findNearestPlateId(x, z);
-
-        return plateCache.computeIfAbsent(plateId, id -> generatePlateData(id, x, z));
+        return getPlate(findNearestCell(x, z));
     }
 
-    private int findNearestPlateId(double x, double z) {
-        // Sample noise in a grid pattern to create consistent plate centers
-        double minDistance = Double.MAX_VALUE;
-        int nearestPlateId = 0;
+    PlateData getPlate(long cell) {
+        return plateCache.get(cell, plateFactory);
+    }
 
-        // Check a 3x3 grid of potential plate centers around the point
-        int gridSize = 2048; // Distance between potential plate centers
+    /**
+     * Find the grid cell whose scattered center is nearest to the point.
+     * Centers are jittered by up to half a cell, so the nearest one can lie two cells away.
+     */
+    private long findNearestCell(double x, double z) {
+        int gridSize = layout.getGridSize(); // Distance between potential plate centers
         int gridX = (int) Math.floor(x / gridSize);
         int gridZ = (int) Math.floor(z / gridSize);
 
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dz = -1; dz <= 1; dz++) {
-                int checkGridX = gridX + dx;
-                int checkGridZ = gridZ + dz;
+        double minDistanceSq = Double.MAX_VALUE;
+        long nearestCell = 0;
 
-                // Generate pseudo-random offset for this grid cell
-                RandomSource random = RandomSource.create(
-                        seed ^ (checkGridX * 374761393L) ^ (checkGridZ * 668265263L)
-                );
+        for (int dx = -CELL_SEARCH; dx <= CELL_SEARCH; dx++) {
+            for (int dz = -CELL_SEARCH; dz <= CELL_SEARCH; dz++) {
+                int cellX = gridX + dx;
+                int cellZ = gridZ + dz;
+                long state = cellState(cellX, cellZ);
 
-                double offsetX = random.nextDouble() * gridSize - gridSize * 0.5;
-                double offsetZ = random.nextDouble() * gridSize - gridSize * 0.5;
+                double offsetX = cellCenterX(state, cellX, gridSize) - x;
+                double offsetZ = cellCenterZ(state, cellZ, gridSize) - z;
+                double distanceSq = offsetX * offsetX + offsetZ * offsetZ;
 
-                double centerX = checkGridX * gridSize + offsetX;
-                double centerZ = checkGridZ * gridSize + offsetZ;
-
-                double distance = Math.sqrt((x - centerX) * (x - centerX) + (z - centerZ) * (z - centerZ));
-
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    nearestPlateId = checkGridX * 31 + checkGridZ; // Simple but unique ID
+                if (distanceSq < minDistanceSq) {
+                    minDistanceSq = distanceSq;
+                    nearestCell = PlateData.cellKey(cellX, cellZ);
                 }
             }
         }
 
-        return nearestPlateId;
+        return nearestCell;
+    }
+
+    private long cellState(int cellX, int cellZ) {
+        return lcgScramble(seed ^ (cellX * 374761393L) ^ (cellZ * 668265263L));
+    }
+
+    private static double cellCenterX(long state, int cellX, int gridSize) {
+        long first = lcgNext(state);
+        long second = lcgNext(first);
+        return cellX * (double) gridSize + lcgDouble(first, second) * gridSize - gridSize * 0.5;
     }
 
-    private PlateData generatePlateData(int plateId, double sampleX, double sampleZ) {
-        // Regenerate the plate center for this ID
-        RandomSource random = RandomSource.create(seed ^ (plateId * 1234567L));
+    private static double cellCenterZ(long state, int cellZ, int gridSize) {
+        long first = lcgNext(lcgNext(lcgNext(state)));
+        long second = lcgNext(first);
+        return cellZ * (double) gridSize + lcgDouble(first, second) * gridSize - gridSize * 0.5;
+    }
+
+    // Inline form of RandomSource.create(seed).nextDouble() (the legacy java.util.Random LCG).
+    // Plate lookups run for every column, so the cell search must not allocate.
+    private static final long LCG_MULTIPLIER = 0x5DEECE66DL;
+    private static final long LCG_ADDEND = 0xBL;
+    private static final long LCG_MASK = (1L << 48) - 1;
+
+    private static long lcgScramble(long seed) {
+        return (seed ^ LCG_MULTIPLIER) & LCG_MASK;
+    }
+
+    private static long lcgNext(long state) {
+        return (state * LCG_MULTIPLIER + LCG_ADDEND) & LCG_MASK;
+    }
 
-        // Calculate grid position from plate ID (reverse of ID generation)
-        int gridX = plateId / 31;
-        int gridZ = plateId % 31;
-        int gridSize = 2048;
+    /**
+     * nextDouble() from two consecutive LCG states: 26 high bits from the first, 27 from the second
+     */
+    private static double lcgDouble(long first, long second) {
+        long high = first >>> (48 - 26);
+        long low = second >>> (48 - 27);
+        return ((high << 27) + low) * 0x1.0p-53;
+    }
 
-        double offsetX = random.nextDouble() * gridSize - gridSize * 0.5;
-        double offsetZ = random.nextDouble() * gridSize - gridSize * 0.5;
+    private PlateData generatePlateData(int cellX, int cellZ) {
+        int gridSize = layout.getGridSize();
+        double plateScale = layout.getPlateScale();
 
-        double centerX = gridX * gridSize + offsetX;
-        double centerZ = gridZ * gridSize + offsetZ;
+        // Same center the cell search uses, so plate properties and boundary normals line up with the Voronoi edges
+        long state = cellState(cellX, cellZ);
+        double centerX = cellCenterX(state, cellX, gridSize);
+        double centerZ = cellCenterZ(state, cellZ, gridSize);
+        RandomSource random = RandomSource.create(seed ^ (PlateData.cellKey(cellX, cellZ) * 1234567L));
 
         // Generate plate properties using noise
-        double age = (ageNoise.getValue(centerX * PLATE_SCALE * 2, centerZ * PLATE_SCALE * 2) + 1.0) * 0.5;
+        double age = (ageNoise.getValue(centerX * plateScale * 2, centerZ * plateScale * 2) + 1.0) * 0.5;
         age = Mth.clamp(age, 0.0, 1.0);
 
-        double elevation = elevationNoise.getValue(centerX * PLATE_SCALE * 3, centerZ * PLATE_SCALE * 3);
+        double elevation = elevationNoise.getValue(centerX * plateScale * 3, centerZ * plateScale * 3);
         elevation = Mth.clamp(elevation, -1.0, 1.0);
 
         double movementDirection = random.nextDouble() * Math.PI * 2;
         double movementSpeed = 0.1 + random.nextDouble() * 0.9; // 0.1 to 1.0
 
-        return new PlateData(plateId, centerX, centerZ, age, movementDirection, movementSpeed, elevation);
+        return new PlateData(cellX, cellZ, centerX, centerZ, age, movementDirection, movementSpeed, elevation);
     }
 
     /**
      * Calculate distance to nearest plate boundary
      */
     public double getDistanceToBoundary(double x, double z) {
-        PlateData currentPlate = getPlateAt(x, z);
+        return getNearestBoundary(x, z, SCRATCH_SAMPLE.get()).getDistance();
+    }
+
+    // Per-thread sample for callers that only read a value out of the result
+    private static final ThreadLocal<BoundarySample> SCRATCH_SAMPLE = ThreadLocal.withInitial(BoundarySample::new);
+
+    /**
+     * Find the nearest plate boundary into a new sample that callers may keep
+     */
+    public BoundarySample getNearestBoundary(double x, double z) {
+        return getNearestBoundary(x, z, new BoundarySample());
+    }
+
+    /**
+     * Find the nearest plate boundary and look up how the two plates interact across it.
+     * Distances are measured to the actual Voronoi edges of the point's plate.
+     * The result is written into the given sample, so repeated lookups do not allocate.
+     */
+    public BoundarySample getNearestBoundary(double x, double z, BoundarySample out) {
+        PlateData currentPlate = getPlate(findNearestCell(x, z));
+        int gridSize = layout.getGridSize();
+        int searchRadius = layout.getBoundarySearchRadius();
+
         double minBoundaryDistance = Double.MAX_VALUE;
+        PlateData nearestPlate = null;
+        PlateInteraction nearestInteraction = null;
+        double relief = 0.0;
+
+        for (int dx = -CELL_SEARCH; dx <= CELL_SEARCH; dx++) {
+            for (int dz = -CELL_SEARCH; dz <= CELL_SEARCH; dz++) {
+                if (dx == 0 && dz == 0) {
+                    continue;
+                }
+
+                // The bisector is never farther than the edge on it, so it cheaply rules out distant neighbours
+                int cellX = currentPlate.getCellX() + dx;
+                int cellZ = currentPlate.getCellZ() + dz;
+                if (bisectorDistance(currentPlate, cellX, cellZ, x, z, gridSize) > searchRadius) {
+                    continue;
+                }
+
+                PlateData neighbor = getPlate(PlateData.cellKey(cellX, cellZ));
+                PlateInteraction interaction = boundaryTable.get(currentPlate, neighbor);
+                if (interaction.getEdge() == null) {
+                    continue;
+                }
+
+                double distance = interaction.getEdge().distanceTo(x, z);
+                if (distance > searchRadius) {
+                    continue;
+                }
 
-        // Check surrounding area for different plates
-        int searchRadius = 512;
-        int step = 64;
+                // Every nearby edge contributes relief, so terrain stays continuous where the nearest edge changes
+                relief += interaction.getRelief(currentPlate.getPlateKey(), distance);
 
-        for (int dx = -searchRadius; dx <= searchRadius; dx += step) {
-            for (int dz = -searchRadius; dz <= searchRadius; dz += step) {
-                PlateData checkPlate = getPlateAt(x + dx, z + dz);
-                if (checkPlate.getPlateId() != currentPlate.getPlateId()) {
-                    double distance = Math.sqrt(dx * dx + dz * dz);
-                    minBoundaryDistance = Math.min(minBoundaryDistance, distance);
+                if (distance < minBoundaryDistance) {
+                    minBoundaryDistance = distance;
+                    nearestPlate = neighbor;
+                    nearestInteraction = interaction;
                 }
             }
         }
 
-        return minBoundaryDistance == Double.MAX_VALUE ? searchRadius : minBoundaryDistance;
+        if (nearestPlate == null) {
+            return out.set(searchRadius, null, null, 0.0);
+        }
+
+        // Each plate sees a different set of edges, so near boundaries the relief is averaged with that of
+        // the plates across them, weighted by closeness, until all sides agree on the edge itself
+        if (minBoundaryDistance < SEAM_WIDTH * 3) {
+            relief = blendAcrossSeams(currentPlate, relief, x, z, gridSize, searchRadius);
+        }
+
+        return out.set(minBoundaryDistance, nearestPlate, nearestInteraction, relief);
+    }
+
+    private double blendAcrossSeams(PlateData plate, double relief, double x, double z, int gridSize, int searchRadius) {
+        double weightedRelief = relief;
+        double totalWeight = 1.0;
+
+        for (int dx = -CELL_SEARCH; dx <= CELL_SEARCH; dx++) {
+            for (int dz = -CELL_SEARCH; dz <= CELL_SEARCH; dz++) {
+                if (dx == 0 && dz == 0) {
+                    continue;
+                }
+
+                int cellX = plate.getCellX() + dx;
+                int cellZ = plate.getCellZ() + dz;
+                if (bisectorDistance(plate, cellX, cellZ, x, z, gridSize) >= SEAM_WIDTH * 3) {
+                    continue;
+                }
+
+                PlateData neighbor = getPlate(PlateData.cellKey(cellX, cellZ));
+                PlateEdge edge = boundaryTable.get(plate, neighbor).getEdge();
+                if (edge == null) {
+                    continue;
+                }
+
+                double seam = edge.distanceTo(x, z) / SEAM_WIDTH;
+                if (seam < 3.0) {
+                    double weight = Math.exp(-seam * seam);
+                    weightedRelief += getEdgeRelief(neighbor, x, z, gridSize, searchRadius) * weight;
+                    totalWeight += weight;
+                }
+            }
+        }
+
+        return weightedRelief / totalWeight;
+    }
+
+    /**
+     * Summed relief of every edge of the plate within the search radius, as seen from a point
+     */
+    private double getEdgeRelief(PlateData plate, double x, double z, int gridSize, int searchRadius) {
+        double relief = 0.0;
+        for (int dx = -CELL_SEARCH; dx <= CELL_SEARCH; dx++) {
+            for (int dz = -CELL_SEARCH; dz <= CELL_SEARCH; dz++) {
+                if (dx == 0 && dz == 0) {
+                    continue;
+                }
+
+                int cellX = plate.getCellX() + dx;
+                int cellZ = plate.getCellZ() + dz;
+                if (bisectorDistance(plate, cellX, cellZ, x, z, gridSize) > searchRadius) {
+                    continue;
+                }
+
+                PlateInteraction interaction = boundaryTable.get(plate, getPlate(PlateData.cellKey(cellX, cellZ)));
+                if (interaction.getEdge() != null) {
+                    double distance = interaction.getEdge().distanceTo(x, z);
+                    if (distance <= searchRadius) {
+                        relief += interaction.getRelief(plate.getPlateKey(), distance);
+                    }
+                }
+            }
+        }
+        return relief;
+    }
+
+    /**
+     * Distance from a point to the bisector line between a plate center and a neighbouring cell's center.
+     * Points on the plate's side are positive; this is a lower bound on the distance to their shared edge.
+     */
+    private double bisectorDistance(PlateData plate, int cellX, int cellZ, double x, double z, int gridSize) {
+        long state = cellState(cellX, cellZ);
+        double neighborX = cellCenterX(state, cellX, gridSize);
+        double neighborZ = cellCenterZ(state, cellZ, gridSize);
+
+        double separation = Math.sqrt((neighborX - plate.getCenterX()) * (neighborX - plate.getCenterX())
+                + (neighborZ - plate.getCenterZ()) * (neighborZ - plate.getCenterZ()));
+        double plateDistanceSq = (x - plate.getCenterX()) * (x - plate.getCenterX())
+                + (z - plate.getCenterZ()) * (z - plate.getCenterZ());
+        double neighborDistanceSq = (x - neighborX) * (x - neighborX) + (z - neighborZ) * (z - neighborZ);
+        return Math.abs(neighborDistanceSq - plateDistanceSq) / (2.0 * separation);
+    }
+
+    /**
+     * Clip the bisector of two plates against every surrounding center to find the edge they share.
+     * Returns null when another plate lies between them. Called once per plate pair by the boundary table.
+     */
+    PlateEdge findEdge(PlateData low, PlateData high) {
+        int gridSize = layout.getGridSize();
+
+        // Work relative to the low plate's center; the bisector is midpoint + t * direction
+        double toHighX = high.getCenterX() - low.getCenterX();
+        double toHighZ = high.getCenterZ() - low.getCenterZ();
+        double separation = Math.sqrt(toHighX * toHighX + toHighZ * toHighZ);
+        if (separation == 0) {
+            return null;
+        }
+
+        double midX = toHighX * 0.5;
+        double midZ = toHighZ * 0.5;
+        double dirX = -toHighZ / separation;
+        double dirZ = toHighX / separation;
+
+        double minT = Double.NEGATIVE_INFINITY;
+        double maxT = Double.POSITIVE_INFINITY;
+
+        int minCellX = Math.min(low.getCellX(), high.getCellX()) - CELL_SEARCH;
+        int maxCellX = Math.max(low.getCellX(), high.getCellX()) + CELL_SEARCH;
+        int minCellZ = Math.min(low.getCellZ(), high.getCellZ()) - CELL_SEARCH;
+        int maxCellZ = Math.max(low.getCellZ(), high.getCellZ()) + CELL_SEARCH;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                if ((cellX == low.getCellX() && cellZ == low.getCellZ())
+                        || (cellX == high.getCellX() && cellZ == high.getCellZ())) {
+                    continue;
+                }
+
+                long state = cellState(cellX, cellZ);
+                double otherX = cellCenterX(state, cellX, gridSize) - low.getCenterX();
+                double otherZ = cellCenterZ(state, cellZ, gridSize) - low.getCenterZ();
+
+                // Points on the edge must be no closer to this center than to the low plate's: a * t <= b
+                double a = 2.0 * (dirX * otherX + dirZ * otherZ);
+                double b = otherX * otherX + otherZ * otherZ - 2.0 * (midX * otherX + midZ * otherZ);
+                if (a > 0) {
+                    maxT = Math.min(maxT, b / a);
+                } else if (a < 0) {
+                    minT = Math.max(minT, b / a);
+                } else if (b < 0) {
+                    return null;
+                }
+            }
+        }
+
+        if (!(minT < maxT)) {
+            return null;
+        }
+
+        double originX = low.getCenterX() + midX;
+        double originZ = low.getCenterZ() + midZ;
+        return new PlateEdge(originX + dirX * minT, originZ + dirZ * minT,
+                originX + dirX * maxT, originZ + dirZ * maxT);
+    }
+
+    public PlateBoundaryTable getBoundaryTable() {
+        return boundaryTable;
+    }
+
+    public PlateLayout getLayout() {
+        return layout;
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.geogen.worldgen.strata;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+public enum RockType {
+    MARINE_SEDIMENT(Blocks.CALCITE, 0.5), // Carbonate ooze on the sea floor
+    CONTINENTAL_SEDIMENT(Blocks.SANDSTONE, 0.7), // Sandstones and shales in basins
+    VOLCANIC_ASH(Blocks.TUFF, 0.4), // Ash and accretionary wedge material
+    BASALT(Blocks.BASALT, 0.2), // Pillow basalts and flood basalts
+    GABBRO(Blocks.SMOOTH_BASALT, 0.05), // Lower oceanic crust
+    ANDESITE(Blocks.ANDESITE, 0.15), // Arc volcanics
+    GRANITE(Blocks.GRANITE, 0.05), // Arc batholiths
+    GRANITIC_CRUST(Blocks.STONE, 0.1), // Upper continental crust
+    METAMORPHIC(Blocks.DEEPSLATE, 0.02), // Schists and gneisses in collision belts
+    LOWER_CRUST(Blocks.DEEPSLATE, 0.01); // Deep crust beneath everything
+
+    private final BlockState blockState;
+    private final double permeability; // 0.0 to 1.0
+
+    RockType(Block block, double permeability) {
+        this.blockState = block.defaultBlockState();
+        this.permeability = permeability;
+    }
+
+    private static final RockType[] VALUES = values();
+
+    /**
+     * The rock a generated block was written as, or null for blocks the strata never place and for
+     * blocks shared by several rocks (deepslate is both METAMORPHIC and LOWER_CRUST)
+     */
+    public static RockType fromBlockState(BlockState state) {
+        RockType match = null;
+        for (RockType rock : VALUES) {
+            if (rock.blockState == state) {
+                if (match != null) {
+                    return null; // Ambiguous
+                }
+                match = rock;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Loose cover that weathers into soil and sand, as opposed to exposed bedrock
+     */
+    public boolean isSediment() {
+        return this == MARINE_SEDIMENT || this == CONTINENTAL_SEDIMENT || this == VOLCANIC_ASH;
+    }
+
+    public BlockState getBlockState() { return blockState; }
+    public double getPermeability() { return permeability; }
+}
\ No newline at end of file
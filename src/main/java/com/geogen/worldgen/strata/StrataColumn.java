@@ -0,0 +1,58 @@
+package com.geogen.worldgen.strata;
+
+/**
+ * Run-length list of rock layers for a single column, stored from the surface downward.
+ * Instances are reused between columns so building strata does not allocate.
+ */
+public class StrataColumn {
+    private static final int MAX_RUNS = 16;
+
+    private final RockType[] rocks = new RockType[MAX_RUNS];
+    private final int[] tops = new int[MAX_RUNS];
+    private final int[] bottoms = new int[MAX_RUNS];
+    private int runCount;
+    private int cursor; // Next Y to be assigned, moving downward
+    private int minY;
+
+    /**
+     * Start a new column whose top solid block is at topY
+     */
+    public void reset(int topY, int minY) {
+        this.runCount = 0;
+        this.cursor = topY;
+        this.minY = minY;
+    }
+
+    /**
+     * Add a layer directly below the previous one
+     */
+    public void add(RockType rock, int thickness) {
+        if (thickness <= 0 || cursor < minY) {
+            return;
+        }
+
+        int bottom = Math.max(minY, cursor - thickness + 1);
+        if (runCount > 0 && (rocks[runCount - 1] == rock || runCount == MAX_RUNS)) {
+            // Merge with the run above (or absorb overflow into the last run)
+            bottoms[runCount - 1] = bottom;
+        } else {
+            rocks[runCount] = rock;
+            tops[runCount] = cursor;
+            bottoms[runCount] = bottom;
+            runCount++;
+        }
+        cursor = bottom - 1;
+    }
+
+    /**
+     * Fill the rest of the column down to the minimum build height
+     */
+    public void fill(RockType rock) {
+        add(rock, cursor - minY + 1);
+    }
+
+    public int getRunCount() { return runCount; }
+    public RockType getRock(int run) { return rocks[run]; }
+    public int getTop(int run) { return tops[run]; }
+    public int getBottom(int run) { return bottoms[run]; }
+}
\ No newline at end of file
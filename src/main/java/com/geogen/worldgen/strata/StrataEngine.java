@@ -0,0 +1,90 @@
+package com.geogen.worldgen.strata;
+
+import com.geogen.worldgen.TerrainProperties;
+import com.geogen.worldgen.plates.BoundarySample;
+import com.geogen.worldgen.plates.BoundaryType;
+import com.geogen.worldgen.plates.CrustType;
+import com.geogen.worldgen.plates.PlateData;
+
+/**
+ * Builds the rock layering of a column from crust type, plate age and boundary interaction.
+ * Everything is decided once per column; the fill stage only copies the resulting runs.
+ */
+public class StrataEngine {
+
+    /**
+     * Build the strata for a column whose top solid block is at topY
+     */
+    public void build(TerrainProperties column, int minY, int topY, StrataColumn out) {
+        out.reset(topY, minY);
+        if (topY < minY) {
+            return;
+        }
+
+        PlateData plate = column.getPlateData();
+        BoundarySample boundary = column.getBoundary();
+
+        // 1.0 at the boundary, fading to 0.0 at the edge of its influence
+        double influence = boundary.getInfluence();
+        BoundaryType boundaryType = boundary.hasBoundary() ? boundary.getInteraction().getBoundaryType() : null;
+        boolean uplifted = boundary.getRelief() > 0;
+
+        if (column.getCrustType() == CrustType.OCEANIC) {
+            buildOceanic(plate, boundaryType, uplifted, influence, out);
+        } else {
+            buildContinental(plate, boundary, boundaryType, uplifted, influence, out);
+        }
+    }
+
+    private void buildOceanic(PlateData plate, BoundaryType boundaryType, boolean uplifted,
+                              double influence, StrataColumn out) {
+        if (boundaryType == BoundaryType.CONVERGENT) {
+            if (uplifted) {
+                // Island arc volcanics built on the overriding plate
+                out.add(RockType.ANDESITE, (int) (influence * 12));
+            } else {
+                // Accretionary wedge scraped off the subducting plate
+                out.add(RockType.VOLCANIC_ASH, (int) (influence * 10));
+            }
+        }
+
+        // Sediment accumulates with age and is absent on fresh ridge crust
+        double sediment = 1 + plate.getAge() * 6;
+        if (boundaryType == BoundaryType.DIVERGENT) {
+            sediment *= 1.0 - influence;
+        }
+        out.add(RockType.MARINE_SEDIMENT, (int) sediment);
+
+        out.add(RockType.BASALT, 6);
+        out.add(RockType.GABBRO, 24);
+        out.fill(RockType.LOWER_CRUST);
+    }
+
+    private void buildContinental(PlateData plate, BoundarySample boundary, BoundaryType boundaryType,
+                                  boolean uplifted, double influence, StrataColumn out) {
+        // Young continental crust still carries thick basin fill, old cratons are eroded to basement
+        double sediment = 2 + (1.0 - plate.getAge()) * 10;
+
+        if (boundaryType == BoundaryType.CONVERGENT && uplifted) {
+            if (boundary.getNeighbor().getCrustType() == CrustType.CONTINENTAL) {
+                // Collision belt - metamorphic core exhumed through thin cover
+                out.add(RockType.CONTINENTAL_SEDIMENT, (int) (sediment * (1.0 - influence)));
+                out.add(RockType.METAMORPHIC, (int) (influence * 40));
+            } else {
+                // Continental arc - volcanics over granite batholiths
+                out.add(RockType.ANDESITE, (int) (influence * 10));
+                out.add(RockType.CONTINENTAL_SEDIMENT, (int) (sediment * (1.0 - influence)));
+                out.add(RockType.GRANITE, (int) (influence * 30));
+            }
+        } else if (boundaryType == BoundaryType.DIVERGENT) {
+            // Rift - flood basalts over a thickened sediment pile
+            out.add(RockType.BASALT, (int) (influence * 8));
+            out.add(RockType.CONTINENTAL_SEDIMENT, (int) (sediment + influence * 8));
+        } else {
+            out.add(RockType.CONTINENTAL_SEDIMENT, (int) sediment);
+        }
+
+        out.add(RockType.GRANITIC_CRUST, 48);
+        out.fill(RockType.LOWER_CRUST);
+    }
+}
\ No newline at end of file
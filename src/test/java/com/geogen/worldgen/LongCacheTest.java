@@ -0,0 +1,66 @@
+package com.geogen.worldgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The cache is read by every worldgen thread without a lock, so a hit must only ever return the value stored for
+ * that key, and the table must stay within its configured capacity.
+ */
+class LongCacheTest {
+    private static final int THREADS = 4;
+    private static final int KEYS = 20_000; // Far more than the capacity, so slots are overwritten constantly
+
+    @Test
+    void hitsReturnTheStoredValue() {
+        LongCache<String> cache = new LongCache<>(() -> 64);
+        String value = cache.get(7L, Long::toString);
+
+        assertSame(value, cache.get(7L, key -> "recreated"));
+        assertSame(value, cache.getIfPresent(7L));
+        assertNull(cache.getIfPresent(8L));
+    }
+
+    @Test
+    void sizeNeverExceedsCapacity() {
+        LongCache<Long> cache = new LongCache<>(() -> 100);
+        for (long key = 0; key < KEYS; key++) {
+            cache.put(key, key);
+        }
+        assertTrue(cache.size() <= 100, () -> "size " + cache.size());
+    }
+
+    @Test
+    void concurrentReadersNeverSeeAnotherKeysValue() throws Exception {
+        LongCache<Long> cache = new LongCache<>(() -> 256);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                long stride = thread * 2 + 1;
+                results.add(executor.submit(() -> {
+                    for (long i = 0; i < KEYS; i++) {
+                        long key = (i * stride) % 1024 | (i << 32);
+                        assertEquals(key * 3, cache.get(key, k -> k * 3));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
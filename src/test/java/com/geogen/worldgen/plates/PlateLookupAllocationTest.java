@@ -0,0 +1,71 @@
+package com.geogen.worldgen.plates;
+
+import com.geogen.worldgen.chunk.AllocationTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Plate lookups run for every column of every chunk, so once their caches are warm they must not allocate.
+ * Allocation is read from the thread's allocation counter and averaged over many lookups.
+ */
+class PlateLookupAllocationTest {
+    private static final int LOOKUPS = 200_000;
+    private static final int WARMUP_ROUNDS = 5; // Lets the JIT compile the lookup path before measuring
+    private static final int AREA = 8192; // Blocks on a side of the sampled square, a handful of plates
+    private static final double BYTES_PER_LOOKUP = 1.0; // Effectively zero once averaged
+
+    private final PlateSystem plateSystem = new PlateSystem(42L);
+    private final BoundarySample sample = new BoundarySample();
+
+    @Test
+    void getPlateAtDoesNotAllocate() {
+        assertWithinBudget("getPlateAt", () -> {
+            double sink = 0.0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                sink += plateSystem.getPlateAt(sampleX(i), sampleZ(i)).getAge();
+            }
+            return sink;
+        });
+    }
+
+    @Test
+    void getNearestBoundaryDoesNotAllocate() {
+        assertWithinBudget("getNearestBoundary", () -> {
+            double sink = 0.0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                sink += plateSystem.getNearestBoundary(sampleX(i), sampleZ(i), sample).getDistance();
+            }
+            return sink;
+        });
+    }
+
+    private static void assertWithinBudget(String name, DoubleSupplier lookups) {
+        assumeTrue(AllocationTracker.currentThreadAllocatedBytes() >= 0, "JVM does not report thread allocations");
+
+        double sink = 0.0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += lookups.getAsDouble();
+        }
+
+        long before = AllocationTracker.currentThreadAllocatedBytes();
+        sink += lookups.getAsDouble();
+        long allocated = AllocationTracker.currentThreadAllocatedBytes() - before;
+
+        double perLookup = allocated / (double) LOOKUPS;
+        assertTrue(perLookup <= BYTES_PER_LOOKUP, () -> String.format(
+                "%s allocated %.2f bytes per lookup, budget is %.1f", name, perLookup, BYTES_PER_LOOKUP));
+        assertTrue(Double.isFinite(sink)); // Keeps the lookups from being optimised away
+    }
+
+    private static double sampleX(int i) {
+        return (i * 7919L) % AREA;
+    }
+
+    private static double sampleZ(int i) {
+        return (i * 104729L) % AREA;
+    }
+}
\ No newline at end of file